@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import curacao.annotations.parameters.RequestBody;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyInputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
+
+/**
+ * Binds a JSON request body to any {@link RequestBody} argument/parameter whose class is marked with
+ * {@link CompiledJson}, and has a no-arg constructor, with the codec generated for it at build time; register a
+ * subclass of this mapper in the boot package. Arguments of any other type are left to other mappers, e.g., one
+ * that binds JSON with Jackson.
+ * <p>
+ * A buffered body is read straight from its backing array, without a copy (see
+ * {@link RequestBodyBuffer#readArray(RequestBodyBuffer.ArrayReader)}). Otherwise, the body is read as it arrives,
+ * limited to the maximum request body size. The body is expected to be UTF-8, as JSON is (RFC 8259, section 8.1).
+ */
+public abstract class AbstractCompiledJsonRequestBodyMapper extends AbstractControllerArgumentMapper<Object> {
+
+    private static final long DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES = getDefaultMaxRequestBodySizeInBytes();
+
+    /**
+     * Always null; without the type of the argument, there's nothing to bind the body to.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        return null;
+    }
+
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Type type) throws Exception {
+        // Only binds the entire body; a named request body argument is a parameter of a form-encoded body.
+        if (!(annotation instanceof RequestBody) || !"".equals(((RequestBody) annotation).value())
+                || !(type instanceof Class)) {
+            return null;
+        }
+        // A class without a no-arg constructor can be written, but not read into; left to other mappers.
+        final JsonCodec<Object> codec = JsonCodecs.findCodec((Class<?>) type);
+        if (codec == null || !codec.isReadable()) {
+            return null;
+        }
+        final RequestBody rb = (RequestBody) annotation;
+        final long maxLength = (rb.maxSizeInBytes() > 0L) ? rb.maxSizeInBytes() : DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
+        final RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        if (body == null) {
+            try (InputStream is = RequestBodyInputStream.open(ctx.getRequest(), maxLength)) {
+                return read(codec, new JsonReader(is));
+            }
+        } else if (maxLength > 0L && body.size() > maxLength) {
+            throw new RequestTooLargeException("Incoming request body was too large: " + body.size()
+                    + "-bytes > " + maxLength + "-bytes maximum.");
+        } else if (body.isSpilled()) {
+            try (InputStream is = body.asInputStream()) {
+                return read(codec, new JsonReader(is));
+            }
+        }
+        return body.readArray((array, offset, length) -> read(codec, new JsonReader(array, offset, length)));
+    }
+
+    /**
+     * Binds the one JSON value in the body.
+     *
+     * @return the bound value, or null if the body is empty
+     */
+    @Nullable
+    private static Object read(
+            final JsonCodec<Object> codec,
+            final JsonReader reader) throws IOException {
+        try {
+            if (!reader.hasContent()) {
+                return null;
+            }
+            final Object value = reader.nextNull() ? null : codec.read(reader);
+            reader.finish();
+            return value;
+        } catch (final JsonSyntaxException e) {
+            throw new MalformedRequestBodyException("Failed to bind JSON request body.", e);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class to have a JSON codec generated for it at build time by the {@link CompiledJsonProcessor}, so it's
+ * serialized and deserialized without reflection (see {@link JsonCodecs}).
+ * <p>
+ * The properties of the class are those of its getters ({@code getX()}, or {@code isX()} for a boolean), in
+ * declaration order; a property is also deserialized if the class has a matching setter, and a no-arg
+ * constructor. A class without a no-arg constructor is only ever serialized, and can't be the type of a property
+ * with a setter. The status and Content-Type of a {@link curacao.entities.CuracaoEntity} are never properties.
+ * Supported property types are primitives and their wrappers, strings, enums, other classes marked with this
+ * annotation, and lists, sets, collections, and string keyed maps of any of those.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CompiledJson {
+
+    /**
+     * Names of properties to leave out.
+     */
+    String[] ignore() default {};
+
+}
@@ -0,0 +1,699 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@link JsonCodec} at build time for each class marked with {@link CompiledJson}, so it's
+ * serialized and deserialized without reflection. The codec writes each property with a call to its getter and
+ * reads it with a call to its setter, with property names encoded once, when the codec is loaded.
+ * <p>
+ * Registered as a service, so javac runs it whenever this module is on the class path of a build; javac 23 and
+ * later only do so if asked to, e.g., with {@code -proc:full}, or with this module on the
+ * {@code annotationProcessorPaths} of the Maven compiler plugin.
+ */
+public final class CompiledJsonProcessor extends AbstractProcessor {
+
+    private static final String ENTITY_TYPE = "curacao.entities.CuracaoEntity";
+
+    /**
+     * The getters of an entity that are not properties, but how it's rendered.
+     */
+    private static final Set<String> ENTITY_METHODS = new HashSet<>(Arrays.asList("getStatus", "getContentType"));
+
+    private static final String WRITER = JsonWriter.class.getName();
+    private static final String READER = JsonReader.class.getName();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(CompiledJson.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+            final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(CompiledJson.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@CompiledJson is only supported on classes.");
+                continue;
+            }
+            try {
+                new CodecBuilder((TypeElement) element).generate();
+            } catch (final CodegenException e) {
+                error(e.element_, e.getMessage());
+            } catch (final IOException e) {
+                error(element, "Failed to write compiled JSON codec: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void error(
+            final Element element,
+            final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * The codec name of the given class marked with {@link CompiledJson}, qualified.
+     */
+    private String getCodecName(
+            final TypeElement type) {
+        return JsonCodecs.getCodecName(processingEnv.getElementUtils().getBinaryName(type).toString());
+    }
+
+    private static String decapitalize(
+            final String name) {
+        // Per java.beans.Introspector, e.g., "URL" stays "URL".
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * A property of a class, with its getter, and setter if any.
+     */
+    private static final class Property {
+
+        private final String name_;
+
+        private final ExecutableElement getter_;
+
+        private final TypeMirror type_;
+
+        /**
+         * The name of the property as in its getter and setter, e.g., "Name" for {@code getName()}.
+         */
+        private final String accessorSuffix_;
+
+        private ExecutableElement setter_;
+
+        private Property(
+                final String name,
+                final ExecutableElement getter,
+                final TypeMirror type,
+                final String accessorSuffix) {
+            name_ = name;
+            getter_ = getter;
+            type_ = type;
+            accessorSuffix_ = accessorSuffix;
+        }
+
+    }
+
+    /**
+     * Generates the codec of one class.
+     */
+    private final class CodecBuilder {
+
+        private final Elements elements_;
+
+        private final Types types_;
+
+        private final TypeElement type_;
+
+        private final DeclaredType declaredType_;
+
+        /**
+         * The helper methods of the codec, and the index of the helper for each type, by the type.
+         */
+        private final StringBuilder helpers_;
+        private final Map<String, Integer> writeHelpers_;
+        private final Map<String, Integer> readHelpers_;
+        private int helperCount_;
+
+        private CodecBuilder(
+                final TypeElement type) {
+            elements_ = processingEnv.getElementUtils();
+            types_ = processingEnv.getTypeUtils();
+            type_ = type;
+            declaredType_ = (DeclaredType) type.asType();
+            helpers_ = new StringBuilder();
+            writeHelpers_ = new HashMap<>();
+            readHelpers_ = new HashMap<>();
+        }
+
+        private void generate() throws CodegenException, IOException {
+            checkType();
+            final List<Property> properties = getProperties();
+            final boolean readable = hasNoArgConstructor(type_);
+            final String typeName = type_.getQualifiedName().toString();
+            final String packageName = elements_.getPackageOf(type_).getQualifiedName().toString();
+            final String codecName = getCodecName(type_);
+            final String codecSimpleName = packageName.isEmpty()
+                    ? codecName : codecName.substring(packageName.length() + 1);
+
+            final StringBuilder sb = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                sb.append("package ").append(packageName).append(";\n\n");
+            }
+            sb.append("@javax.annotation.processing.Generated(\"").append(CompiledJsonProcessor.class.getName())
+                    .append("\")\n");
+            sb.append("public final class ").append(codecSimpleName).append(" implements ")
+                    .append(JsonCodec.class.getName()).append('<').append(typeName).append("> {\n\n");
+            sb.append("    public static final ").append(codecSimpleName).append(" INSTANCE = new ")
+                    .append(codecSimpleName).append("();\n\n");
+            for (int i = 0; i < properties.size(); i++) {
+                sb.append("    private static final byte[] NAME_").append(i).append(" = ").append(WRITER)
+                        .append(".encodeName(\"").append(properties.get(i).name_).append("\", ").append(i == 0)
+                        .append(");\n");
+            }
+            if (!properties.isEmpty()) {
+                sb.append('\n');
+            }
+            sb.append("    private ").append(codecSimpleName).append("() {\n    }\n\n");
+
+            // Writes every property, in order.
+            sb.append("    @Override\n");
+            sb.append("    public void write(\n");
+            sb.append("            final ").append(WRITER).append(" w,\n");
+            sb.append("            final ").append(typeName).append(" v) throws java.io.IOException {\n");
+            sb.append("        w.writeByte((byte) '{');\n");
+            for (int i = 0; i < properties.size(); i++) {
+                final Property property = properties.get(i);
+                sb.append("        w.writeRaw(NAME_").append(i).append(");\n");
+                sb.append("        ").append(writeStatement(property.getter_, property.type_,
+                        "v." + property.getter_.getSimpleName() + "()")).append('\n');
+            }
+            sb.append("        w.writeByte((byte) '}');\n");
+            sb.append("    }\n\n");
+
+            // Reads the properties that have setters, whatever their order; anything else is skipped.
+            sb.append("    @Override\n");
+            sb.append("    public ").append(typeName).append(" read(\n");
+            sb.append("            final ").append(READER).append(" r) throws java.io.IOException {\n");
+            if (readable) {
+                sb.append("        final ").append(typeName).append(" v = new ").append(typeName).append("();\n");
+                sb.append("        r.beginObject();\n");
+                sb.append("        while (r.hasNext()) {\n");
+                sb.append("            switch (r.nextName()) {\n");
+                for (final Property property : properties) {
+                    if (property.setter_ == null) {
+                        continue;
+                    }
+                    sb.append("                case \"").append(property.name_).append("\":\n");
+                    sb.append("                    v.").append(property.setter_.getSimpleName()).append('(')
+                            .append(readExpression(property.getter_, property.type_)).append(");\n");
+                    sb.append("                    break;\n");
+                }
+                sb.append("                default:\n");
+                sb.append("                    r.skipValue();\n");
+                sb.append("                    break;\n");
+                sb.append("            }\n");
+                sb.append("        }\n");
+                sb.append("        return v;\n");
+            } else {
+                sb.append("        throw new UnsupportedOperationException(\"").append(typeName)
+                        .append(" has no no-arg constructor to read into.\");\n");
+            }
+            sb.append("    }\n");
+            if (!readable) {
+                sb.append("\n    @Override\n");
+                sb.append("    public boolean isReadable() {\n");
+                sb.append("        return false;\n");
+                sb.append("    }\n");
+            }
+            sb.append(helpers_);
+            sb.append("\n}\n");
+
+            try (Writer writer = processingEnv.getFiler().createSourceFile(codecName, type_).openWriter()) {
+                writer.write(sb.toString());
+            }
+        }
+
+        private void checkType() throws CodegenException {
+            if (type_.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new CodegenException(type_, "@CompiledJson class cannot be private.");
+            } else if (!type_.getTypeParameters().isEmpty()) {
+                throw new CodegenException(type_, "@CompiledJson class cannot be generic.");
+            } else if (type_.getNestingKind().isNested() && !type_.getModifiers().contains(Modifier.STATIC)) {
+                throw new CodegenException(type_, "Nested @CompiledJson class must be static.");
+            }
+        }
+
+        /**
+         * The superclasses of the class, outermost first, then the class itself; Object has no properties.
+         */
+        private Deque<TypeElement> getHierarchy() {
+            final Deque<TypeElement> hierarchy = new ArrayDeque<>();
+            TypeElement type = type_;
+            while (type != null && !type.getQualifiedName().contentEquals(Object.class.getName())) {
+                hierarchy.addFirst(type);
+                final TypeMirror superclass = type.getSuperclass();
+                type = (superclass.getKind() == TypeKind.DECLARED)
+                        ? (TypeElement) types_.asElement(superclass) : null;
+            }
+            return hierarchy;
+        }
+
+        private List<Property> getProperties() throws CodegenException {
+            final Set<String> ignored = new HashSet<>(Arrays.asList(type_.getAnnotation(CompiledJson.class)
+                    .ignore()));
+            final TypeElement entityType = elements_.getTypeElement(ENTITY_TYPE);
+            final boolean entity = entityType != null
+                    && types_.isAssignable(types_.erasure(type_.asType()), types_.erasure(entityType.asType()));
+            final Deque<TypeElement> hierarchy = getHierarchy();
+            // An overriding getter replaces the one it overrides, but the property keeps its place.
+            final Map<String, Property> properties = new LinkedHashMap<>();
+            for (final TypeElement type : hierarchy) {
+                for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    final String methodName = method.getSimpleName().toString();
+                    if (!isAccessible(method) || !method.getParameters().isEmpty()
+                            || !method.getTypeParameters().isEmpty()
+                            || (entity && ENTITY_METHODS.contains(methodName))) {
+                        continue;
+                    }
+                    final TypeMirror returnType = getMemberType(method).getReturnType();
+                    final String accessorSuffix;
+                    if (methodName.startsWith("get") && methodName.length() > 3
+                            && returnType.getKind() != TypeKind.VOID) {
+                        accessorSuffix = methodName.substring(3);
+                    } else if (methodName.startsWith("is") && methodName.length() > 2
+                            && returnType.getKind() == TypeKind.BOOLEAN) {
+                        accessorSuffix = methodName.substring(2);
+                    } else {
+                        continue;
+                    }
+                    final String name = decapitalize(accessorSuffix);
+                    if (!ignored.contains(name)) {
+                        properties.put(name, new Property(name, method, returnType, accessorSuffix));
+                    }
+                }
+            }
+            for (final Property property : properties.values()) {
+                property.setter_ = findSetter(hierarchy, property);
+            }
+            return List.copyOf(properties.values());
+        }
+
+        /**
+         * The setter of the given property, if any; the one declared by the class itself, or the one declared
+         * closest to it.
+         */
+        private ExecutableElement findSetter(
+                final Deque<TypeElement> hierarchy,
+                final Property property) {
+            final String setterName = "set" + property.accessorSuffix_;
+            for (final TypeElement type : (Iterable<TypeElement>) hierarchy::descendingIterator) {
+                for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    if (method.getSimpleName().contentEquals(setterName) && isAccessible(method)
+                            && method.getParameters().size() == 1 && method.getTypeParameters().isEmpty()
+                            && types_.isSameType(getMemberType(method).getParameterTypes().get(0),
+                            property.type_)) {
+                        return method;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Whether the given method is an instance method the codec, in the package of the class, can call.
+         */
+        private boolean isAccessible(
+                final ExecutableElement method) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            return modifiers.contains(Modifier.PUBLIC)
+                    || elements_.getPackageOf(method).equals(elements_.getPackageOf(type_));
+        }
+
+        /**
+         * The type of the given method as a member of the class, with any type variables of its superclasses
+         * resolved.
+         */
+        private ExecutableType getMemberType(
+                final ExecutableElement method) {
+            return (ExecutableType) types_.asMemberOf(declaredType_, method);
+        }
+
+        private boolean hasNoArgConstructor(
+                final TypeElement type) {
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                return false;
+            }
+            for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * A statement that writes the value of the given expression, of the given type.
+         */
+        private String writeStatement(
+                final Element element,
+                final TypeMirror type,
+                final String expression) throws CodegenException {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return "w.writeBoolean(" + expression + ");";
+                case BYTE:
+                case SHORT:
+                case INT:
+                    return "w.writeInt(" + expression + ");";
+                case LONG:
+                    return "w.writeLong(" + expression + ");";
+                case FLOAT:
+                    return "w.writeFloat(" + expression + ");";
+                case DOUBLE:
+                    return "w.writeDouble(" + expression + ");";
+                case CHAR:
+                    return "w.writeChar(" + expression + ");";
+                default:
+                    break;
+            }
+            if (isType(type, String.class)) {
+                return "w.writeString(" + expression + ");";
+            }
+            return "write" + getWriteHelper(element, type) + "(w, " + expression + ");";
+        }
+
+        /**
+         * An expression that reads a value of the given type.
+         */
+        private String readExpression(
+                final Element element,
+                final TypeMirror type) throws CodegenException {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return "r.nextBoolean()";
+                case BYTE:
+                    return "(byte) r.nextInt()";
+                case SHORT:
+                    return "(short) r.nextInt()";
+                case INT:
+                    return "r.nextInt()";
+                case LONG:
+                    return "r.nextLong()";
+                case FLOAT:
+                    return "r.nextFloat()";
+                case DOUBLE:
+                    return "r.nextDouble()";
+                case CHAR:
+                    return "r.nextChar()";
+                default:
+                    break;
+            }
+            if (isType(type, String.class)) {
+                return "r.nextString()";
+            }
+            return "read" + getReadHelper(element, type) + "(r)";
+        }
+
+        /**
+         * The index of the helper method that writes a value of the given reference type, generating it if need
+         * be; the value may be null.
+         */
+        private int getWriteHelper(
+                final Element element,
+                final TypeMirror type) throws CodegenException {
+            final String typeName = type.toString();
+            final Integer existing = writeHelpers_.get(typeName);
+            if (existing != null) {
+                return existing;
+            }
+            final TypeElement typeElement = getTypeElement(element, type);
+            final int index = helperCount_++;
+            writeHelpers_.put(typeName, index);
+            final StringBuilder body = new StringBuilder();
+            body.append("        if (v == null) {\n");
+            body.append("            w.writeNull();\n");
+            body.append("            return;\n");
+            body.append("        }\n");
+            final TypeMirror unboxed = unbox(type);
+            if (unboxed != null) {
+                body.append("        ").append(writeStatement(element, unboxed, "v")).append('\n');
+            } else if (typeElement.getKind() == ElementKind.ENUM) {
+                body.append("        w.writeString(v.name());\n");
+            } else if (typeElement.getAnnotation(CompiledJson.class) != null) {
+                body.append("        ").append(getCodecName(typeElement)).append(".INSTANCE.write(w, v);\n");
+            } else if (isCollection(type)) {
+                final TypeMirror elementType = getTypeArgument(element, type, 0);
+                body.append("        w.writeByte((byte) '[');\n");
+                body.append("        boolean first = true;\n");
+                body.append("        for (final ").append(elementType).append(" e : v) {\n");
+                body.append("            if (!first) {\n");
+                body.append("                w.writeByte((byte) ',');\n");
+                body.append("            }\n");
+                body.append("            first = false;\n");
+                body.append("            ").append(writeStatement(element, elementType, "e")).append('\n');
+                body.append("        }\n");
+                body.append("        w.writeByte((byte) ']');\n");
+            } else if (isMap(element, type)) {
+                final TypeMirror valueType = getTypeArgument(element, type, 1);
+                body.append("        w.writeByte((byte) '{');\n");
+                body.append("        boolean first = true;\n");
+                body.append("        for (final java.util.Map.Entry<String, ").append(valueType)
+                        .append("> e : v.entrySet()) {\n");
+                body.append("            if (!first) {\n");
+                body.append("                w.writeByte((byte) ',');\n");
+                body.append("            }\n");
+                body.append("            first = false;\n");
+                body.append("            w.writeString(String.valueOf(e.getKey()));\n");
+                body.append("            w.writeByte((byte) ':');\n");
+                body.append("            ").append(writeStatement(element, valueType, "e.getValue()"))
+                        .append('\n');
+                body.append("        }\n");
+                body.append("        w.writeByte((byte) '}');\n");
+            } else {
+                throw unsupported(element, type);
+            }
+            helpers_.append("\n    private static void write").append(index).append("(\n");
+            helpers_.append("            final ").append(WRITER).append(" w,\n");
+            helpers_.append("            final ").append(typeName).append(" v) throws java.io.IOException {\n");
+            helpers_.append(body);
+            helpers_.append("    }\n");
+            return index;
+        }
+
+        /**
+         * The index of the helper method that reads a value of the given reference type, generating it if need
+         * be; the value read may be null.
+         */
+        private int getReadHelper(
+                final Element element,
+                final TypeMirror type) throws CodegenException {
+            final String typeName = type.toString();
+            final Integer existing = readHelpers_.get(typeName);
+            if (existing != null) {
+                return existing;
+            }
+            final TypeElement typeElement = getTypeElement(element, type);
+            final int index = helperCount_++;
+            readHelpers_.put(typeName, index);
+            final StringBuilder body = new StringBuilder();
+            final TypeMirror unboxed = unbox(type);
+            if (unboxed != null) {
+                body.append("        return r.nextNull() ? null : ").append(typeElement.getQualifiedName())
+                        .append(".valueOf(").append(readExpression(element, unboxed)).append(");\n");
+            } else if (typeElement.getKind() == ElementKind.ENUM) {
+                body.append("        final String s = r.nextString();\n");
+                body.append("        if (s == null) {\n");
+                body.append("            return null;\n");
+                body.append("        }\n");
+                body.append("        try {\n");
+                body.append("            return ").append(typeName).append(".valueOf(s);\n");
+                body.append("        } catch (final IllegalArgumentException e) {\n");
+                body.append("            throw r.syntaxError(\"Invalid ").append(typeName)
+                        .append(": \" + s);\n");
+                body.append("        }\n");
+            } else if (typeElement.getAnnotation(CompiledJson.class) != null) {
+                if (!hasNoArgConstructor(typeElement)) {
+                    throw new CodegenException(element, "Property of type " + typeName + " has a setter, but "
+                            + typeName + " has no no-arg constructor to read into.");
+                }
+                body.append("        return r.nextNull() ? null : ").append(getCodecName(typeElement))
+                        .append(".INSTANCE.read(r);\n");
+            } else if (isCollection(type)) {
+                final TypeMirror elementType = getTypeArgument(element, type, 0);
+                final String collection = isType(type, Set.class) ? "java.util.LinkedHashSet" : "java.util.ArrayList";
+                body.append("        if (r.nextNull()) {\n");
+                body.append("            return null;\n");
+                body.append("        }\n");
+                body.append("        final ").append(collection).append('<').append(elementType).append("> c = new ")
+                        .append(collection).append("<>();\n");
+                body.append("        r.beginArray();\n");
+                body.append("        while (r.hasNext()) {\n");
+                body.append("            c.add(").append(readExpression(element, elementType)).append(");\n");
+                body.append("        }\n");
+                body.append("        return c;\n");
+            } else if (isMap(element, type)) {
+                final TypeMirror valueType = getTypeArgument(element, type, 1);
+                body.append("        if (r.nextNull()) {\n");
+                body.append("            return null;\n");
+                body.append("        }\n");
+                body.append("        final java.util.LinkedHashMap<String, ").append(valueType)
+                        .append("> m = new java.util.LinkedHashMap<>();\n");
+                body.append("        r.beginObject();\n");
+                body.append("        while (r.hasNext()) {\n");
+                body.append("            final String k = r.nextName();\n");
+                body.append("            m.put(k, ").append(readExpression(element, valueType)).append(");\n");
+                body.append("        }\n");
+                body.append("        return m;\n");
+            } else {
+                throw unsupported(element, type);
+            }
+            helpers_.append("\n    private static ").append(typeName).append(" read").append(index).append("(\n");
+            helpers_.append("            final ").append(READER).append(" r) throws java.io.IOException {\n");
+            helpers_.append(body);
+            helpers_.append("    }\n");
+            return index;
+        }
+
+        private TypeElement getTypeElement(
+                final Element element,
+                final TypeMirror type) throws CodegenException {
+            if (type.getKind() != TypeKind.DECLARED) {
+                throw unsupported(element, type);
+            }
+            return (TypeElement) types_.asElement(type);
+        }
+
+        /**
+         * The primitive type of the given wrapper type, or null if it's not one.
+         */
+        private TypeMirror unbox(
+                final TypeMirror type) {
+            try {
+                return types_.unboxedType(type);
+            } catch (final IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private boolean isType(
+                final TypeMirror type,
+                final Class<?> clazz) {
+            final TypeElement typeElement = elements_.getTypeElement(clazz.getCanonicalName());
+            return types_.isSameType(types_.erasure(type), types_.erasure(typeElement.asType()));
+        }
+
+        private boolean isCollection(
+                final TypeMirror type) {
+            return isType(type, List.class) || isType(type, Set.class) || isType(type, java.util.Collection.class);
+        }
+
+        private boolean isMap(
+                final Element element,
+                final TypeMirror type) throws CodegenException {
+            if (!isType(type, Map.class)) {
+                return false;
+            } else if (!isType(getTypeArgument(element, type, 0), String.class)) {
+                throw new CodegenException(element, "Only maps with String keys are supported: " + type);
+            }
+            return true;
+        }
+
+        /**
+         * The given type argument of the given type; the upper bound of a wildcard.
+         */
+        private TypeMirror getTypeArgument(
+                final Element element,
+                final TypeMirror type,
+                final int index) throws CodegenException {
+            final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.size() <= index) {
+                throw new CodegenException(element, "Raw types are not supported: " + type);
+            }
+            TypeMirror argument = arguments.get(index);
+            if (argument.getKind() == TypeKind.WILDCARD) {
+                argument = ((WildcardType) argument).getExtendsBound();
+                if (argument == null) {
+                    throw new CodegenException(element, "Unbounded wildcards are not supported: " + type);
+                }
+            }
+            return argument;
+        }
+
+        private CodegenException unsupported(
+                final Element element,
+                final TypeMirror type) {
+            return new CodegenException(element, "Unsupported @CompiledJson property type: " + type);
+        }
+
+    }
+
+    /**
+     * Fails the generation of a codec, to be reported against the given element.
+     */
+    private static final class CodegenException extends Exception {
+
+        private static final long serialVersionUID = -2718430577625491127L;
+
+        private final transient Element element_;
+
+        private CodegenException(
+                final Element element,
+                final String message) {
+            super(message);
+            element_ = element;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads values of a class to and from JSON; generated by the {@link CompiledJsonProcessor} for each
+ * class marked with {@link CompiledJson}. Codecs are stateless, and so safe to share across threads.
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Writes the given value, which is never null.
+     */
+    void write(
+            final JsonWriter writer,
+            final T value) throws IOException;
+
+    /**
+     * Reads a value; the reader is at the start of a JSON object.
+     *
+     * @throws UnsupportedOperationException if the class has no no-arg constructor (see {@link #isReadable()})
+     */
+    T read(
+            final JsonReader reader) throws IOException;
+
+    /**
+     * Whether values can be read at all; false if the class has no no-arg constructor to read into.
+     */
+    default boolean isReadable() {
+        return true;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Finds the generated {@link JsonCodec} of a class marked with {@link CompiledJson}, by the name the
+ * {@link CompiledJsonProcessor} gives it: the names of the class and of its enclosing classes, joined by
+ * underscores, followed by {@link #CODEC_SUFFIX}, in the same package. Each class is looked up once.
+ */
+public final class JsonCodecs {
+
+    /* default */ static final String CODEC_SUFFIX = "_JsonCodec";
+
+    /**
+     * The codec of each class, or empty if the class is not marked with {@link CompiledJson}; a class value can't
+     * be null.
+     */
+    private static final ClassValue<Optional<JsonCodec<?>>> CODECS = new ClassValue<Optional<JsonCodec<?>>>() {
+        @Override
+        protected Optional<JsonCodec<?>> computeValue(
+                final Class<?> type) {
+            return load(type);
+        }
+    };
+
+    // Cannot instantiate
+    private JsonCodecs() {
+    }
+
+    /**
+     * The codec of the given class, or null if the class is not marked with {@link CompiledJson}.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> findCodec(
+            @Nonnull final Class<?> type) {
+        checkNotNull(type, "Type cannot be null.");
+        return (JsonCodec<T>) CODECS.get(type).orElse(null);
+    }
+
+    /**
+     * The codec of the given class.
+     *
+     * @throws IllegalArgumentException if the class is not marked with {@link CompiledJson}
+     */
+    @Nonnull
+    public static <T> JsonCodec<T> getCodec(
+            @Nonnull final Class<?> type) {
+        final JsonCodec<T> codec = findCodec(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No compiled JSON codec for type: " + type.getName());
+        }
+        return codec;
+    }
+
+    /**
+     * The name of the codec of the class of the given binary name, e.g., {@code com.example.Outer$Inner}.
+     */
+    /* default */ static String getCodecName(
+            final String binaryName) {
+        return binaryName.replace('$', '_') + CODEC_SUFFIX;
+    }
+
+    private static Optional<JsonCodec<?>> load(
+            final Class<?> type) {
+        if (!type.isAnnotationPresent(CompiledJson.class)) {
+            return Optional.empty();
+        }
+        try {
+            final Class<?> codec = Class.forName(getCodecName(type.getName()), true, type.getClassLoader());
+            return Optional.of((JsonCodec<?>) codec.getField("INSTANCE").get(null));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Compiled JSON codec of type " + type.getName() + " not found; was "
+                    + "the annotation processor run when the type was compiled?", e);
+        }
+    }
+
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * Reads JSON, as UTF-8, from a byte array or straight from an input stream (through a buffer of its own). A pull
+ * reader for the generated codecs: objects and arrays are walked with {@link #beginObject()},
+ * {@link #beginArray()}, and {@link #hasNext()}, and values are read by the type the codec expects, failing with a
+ * {@link JsonSyntaxException} if the JSON holds anything else. Not thread safe.
+ */
+public final class JsonReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * How deeply objects and arrays may be nested, so malicious input can't exhaust the stack of a codec.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    private static final int END = -1;
+
+    @Nullable
+    private final InputStream input_;
+
+    private final byte[] buffer_;
+
+    private int position_;
+
+    private int limit_;
+
+    /**
+     * The closing bracket of each object or array being read, innermost last.
+     */
+    private final byte[] closers_;
+
+    private int depth_;
+
+    /**
+     * Whether the next element of the innermost object or array is its first, so it isn't preceded by a comma.
+     */
+    private boolean first_;
+
+    private char[] chars_;
+
+    public JsonReader(
+            @Nonnull final byte[] bytes,
+            final int offset,
+            final int length) {
+        checkNotNull(bytes, "Bytes cannot be null.");
+        checkPositionIndexes(offset, offset + length, bytes.length);
+        input_ = null;
+        buffer_ = bytes;
+        position_ = offset;
+        limit_ = offset + length;
+        closers_ = new byte[MAX_DEPTH];
+        chars_ = new char[64];
+    }
+
+    public JsonReader(
+            @Nonnull final InputStream input) {
+        input_ = checkNotNull(input, "Input stream cannot be null.");
+        buffer_ = new byte[BUFFER_SIZE];
+        closers_ = new byte[MAX_DEPTH];
+        chars_ = new char[64];
+    }
+
+    public void beginObject() throws IOException {
+        begin('{', '}');
+    }
+
+    public void beginArray() throws IOException {
+        begin('[', ']');
+    }
+
+    /**
+     * Whether the innermost object or array has another element (consuming the comma before it), or has ended
+     * (consuming its closing bracket).
+     */
+    public boolean hasNext() throws IOException {
+        if (depth_ == 0) {
+            throw syntaxError("Not in an object or array.");
+        }
+        final int c = peek();
+        if (c == closers_[depth_ - 1]) {
+            position_++;
+            depth_--;
+            // The object or array just ended was an element of the one it's in.
+            first_ = false;
+            return false;
+        } else if (first_) {
+            first_ = false;
+        } else if (c == ',') {
+            position_++;
+        } else {
+            throw syntaxError("Expected ',' or '" + (char) closers_[depth_ - 1] + "'.");
+        }
+        return true;
+    }
+
+    /**
+     * Reads the name of the next property of an object, and the colon after it.
+     */
+    @Nonnull
+    public String nextName() throws IOException {
+        if (peek() != '"') {
+            throw syntaxError("Expected a property name.");
+        }
+        final String name = readString();
+        if (peek() != ':') {
+            throw syntaxError("Expected ':'.");
+        }
+        position_++;
+        return name;
+    }
+
+    /**
+     * Consumes a null value, if that's what is next.
+     */
+    public boolean nextNull() throws IOException {
+        if (peek() != 'n') {
+            return false;
+        }
+        readLiteral("null");
+        return true;
+    }
+
+    @Nullable
+    public String nextString() throws IOException {
+        if (nextNull()) {
+            return null;
+        } else if (peek() != '"') {
+            throw syntaxError("Expected a string.");
+        }
+        return readString();
+    }
+
+    public char nextChar() throws IOException {
+        final String value = nextString();
+        if (value == null || value.length() != 1) {
+            throw syntaxError("Expected a single character string.");
+        }
+        return value.charAt(0);
+    }
+
+    public boolean nextBoolean() throws IOException {
+        final int c = peek();
+        if (c == 't') {
+            readLiteral("true");
+            return true;
+        } else if (c == 'f') {
+            readLiteral("false");
+            return false;
+        }
+        throw syntaxError("Expected a boolean.");
+    }
+
+    public int nextInt() throws IOException {
+        final long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw syntaxError("Number out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long nextLong() throws IOException {
+        final int length = readNumber();
+        try {
+            return Long.parseLong(new String(chars_, 0, length));
+        } catch (final NumberFormatException e) {
+            throw new JsonSyntaxException("Expected an integer: " + new String(chars_, 0, length), e);
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        final int length = readNumber();
+        try {
+            return Double.parseDouble(new String(chars_, 0, length));
+        } catch (final NumberFormatException e) {
+            throw new JsonSyntaxException("Expected a number: " + new String(chars_, 0, length), e);
+        }
+    }
+
+    public float nextFloat() throws IOException {
+        return (float) nextDouble();
+    }
+
+    /**
+     * Skips the next value, whatever it is.
+     */
+    public void skipValue() throws IOException {
+        final int c = peek();
+        if (c == '{') {
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+        } else if (c == '[') {
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+        } else if (c == '"') {
+            readString();
+        } else if (c == 't' || c == 'f') {
+            nextBoolean();
+        } else if (!nextNull()) {
+            nextDouble();
+        }
+    }
+
+    /**
+     * Whether there is anything but whitespace left to read.
+     */
+    public boolean hasContent() throws IOException {
+        return peek() != END;
+    }
+
+    /**
+     * Makes sure there is nothing but whitespace left to read.
+     */
+    public void finish() throws IOException {
+        if (hasContent()) {
+            throw syntaxError("Unexpected data after the end of the JSON value.");
+        }
+    }
+
+    @Nonnull
+    public JsonSyntaxException syntaxError(
+            @Nonnull final String message) {
+        return new JsonSyntaxException(message);
+    }
+
+    private void begin(
+            final char opener,
+            final char closer) throws IOException {
+        if (peek() != opener) {
+            throw syntaxError("Expected '" + opener + "'.");
+        } else if (depth_ == MAX_DEPTH) {
+            throw syntaxError("Nested too deeply: more than " + MAX_DEPTH + " levels.");
+        }
+        position_++;
+        closers_[depth_++] = (byte) closer;
+        first_ = true;
+    }
+
+    /**
+     * Skips any whitespace, and returns the next byte without consuming it, or {@link #END} at the end.
+     */
+    private int peek() throws IOException {
+        while (true) {
+            if (position_ == limit_ && !fill()) {
+                return END;
+            }
+            final byte b = buffer_[position_];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b;
+            }
+            position_++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position_ == limit_ && !fill()) {
+            throw syntaxError("Unexpected end of JSON.");
+        }
+        return buffer_[position_++] & 0xFF;
+    }
+
+    private void readLiteral(
+            final String literal) throws IOException {
+        for (int i = 0, l = literal.length(); i < l; i++) {
+            if (read() != literal.charAt(i)) {
+                throw syntaxError("Expected '" + literal + "'.");
+            }
+        }
+    }
+
+    /**
+     * Reads the characters of the next number into the character buffer, returning how many there are; they're
+     * validated when parsed.
+     */
+    private int readNumber() throws IOException {
+        int length = 0;
+        for (int c = peek(); c != END; c = (position_ < limit_ || fill()) ? buffer_[position_] : END) {
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                break;
+            }
+            appendChar(length++, (char) c);
+            position_++;
+        }
+        if (length == 0) {
+            throw syntaxError("Expected a number.");
+        }
+        return length;
+    }
+
+    /**
+     * Reads a string, starting at its opening quote.
+     */
+    private String readString() throws IOException {
+        // The opening quote.
+        position_++;
+        int length = 0;
+        while (true) {
+            final int b = read();
+            if (b == '"') {
+                return new String(chars_, 0, length);
+            } else if (b == '\\') {
+                appendChar(length++, readEscaped());
+            } else if (b < 0x20) {
+                throw syntaxError("Unescaped control character in string.");
+            } else if (b < 0x80) {
+                appendChar(length++, (char) b);
+            } else if ((b & 0xE0) == 0xC0) {
+                final int cp = ((b & 0x1F) << 6) | readContinuation();
+                if (cp < 0x80) {
+                    throw malformedUtf8();
+                }
+                appendChar(length++, (char) cp);
+            } else if ((b & 0xF0) == 0xE0) {
+                final int cp = ((b & 0x0F) << 12) | (readContinuation() << 6) | readContinuation();
+                if (cp < 0x800 || Character.isSurrogate((char) cp)) {
+                    throw malformedUtf8();
+                }
+                appendChar(length++, (char) cp);
+            } else if ((b & 0xF8) == 0xF0) {
+                final int cp = ((b & 0x07) << 18) | (readContinuation() << 12) | (readContinuation() << 6)
+                        | readContinuation();
+                if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT) {
+                    throw malformedUtf8();
+                }
+                appendChar(length++, Character.highSurrogate(cp));
+                appendChar(length++, Character.lowSurrogate(cp));
+            } else {
+                throw malformedUtf8();
+            }
+        }
+    }
+
+    private char readEscaped() throws IOException {
+        final int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed unicode escape in string.");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Invalid escape in string: \\" + (char) c);
+        }
+    }
+
+    private int readContinuation() throws IOException {
+        final int b = read();
+        if ((b & 0xC0) != 0x80) {
+            throw malformedUtf8();
+        }
+        return b & 0x3F;
+    }
+
+    private void appendChar(
+            final int index,
+            final char c) {
+        if (index == chars_.length) {
+            chars_ = Arrays.copyOf(chars_, chars_.length * 2);
+        }
+        chars_[index] = c;
+    }
+
+    /**
+     * Reads more of the input stream into the buffer, if reading from one.
+     *
+     * @return false if the end of the input has been reached
+     */
+    private boolean fill() throws IOException {
+        if (input_ == null) {
+            return false;
+        }
+        final int read = input_.read(buffer_, 0, buffer_.length);
+        if (read <= 0) {
+            return false;
+        }
+        position_ = 0;
+        limit_ = read;
+        return true;
+    }
+
+    private JsonSyntaxException malformedUtf8() {
+        return syntaxError("Malformed UTF-8 in string.");
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.codegen;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes JSON as UTF-8 straight to an output stream, through a buffer of its own; the generated codecs write
+ * property names as pre-encoded bytes (see {@link #encodeName(String, boolean)}), so only values are encoded as
+ * they're written. Not thread safe.
+ */
+public final class JsonWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    /**
+     * The longest a single character may take to write: an escaped one, {@code \}{@code uXXXX}.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private final OutputStream os_;
+
+    private final byte[] buffer_;
+
+    private int position_;
+
+    public JsonWriter(
+            @Nonnull final OutputStream os) {
+        os_ = checkNotNull(os, "Output stream cannot be null.");
+        buffer_ = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Encodes the given property name, followed by a colon, and preceded by a comma unless it's the first.
+     */
+    @Nonnull
+    public static byte[] encodeName(
+            @Nonnull final String name,
+            final boolean first) {
+        checkNotNull(name, "Name cannot be null.");
+        final StringBuilder sb = new StringBuilder(name.length() + 4);
+        if (!first) {
+            sb.append(',');
+        }
+        sb.append('"');
+        for (int i = 0, l = name.length(); i < l; i++) {
+            final char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void writeByte(
+            final byte b) throws IOException {
+        if (position_ == buffer_.length) {
+            flushBuffer();
+        }
+        buffer_[position_++] = b;
+    }
+
+    public void writeRaw(
+            @Nonnull final byte[] bytes) throws IOException {
+        if (bytes.length > buffer_.length - position_) {
+            flushBuffer();
+            if (bytes.length > buffer_.length) {
+                os_.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer_, position_, bytes.length);
+        position_ += bytes.length;
+    }
+
+    public void writeNull() throws IOException {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(
+            final boolean value) throws IOException {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeInt(
+            final int value) throws IOException {
+        writeLong(value);
+    }
+
+    public void writeLong(
+            final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        // At most 19 digits and a sign.
+        ensure(20);
+        long v = value;
+        if (v < 0L) {
+            buffer_[position_++] = '-';
+            v = -v;
+        }
+        final int start = position_;
+        do {
+            buffer_[position_++] = (byte) ('0' + (int) (v % 10L));
+            v /= 10L;
+        } while (v != 0L);
+        // The digits were written least significant first.
+        for (int i = start, j = position_ - 1; i < j; i++, j--) {
+            final byte b = buffer_[i];
+            buffer_[i] = buffer_[j];
+            buffer_[j] = b;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is not finite, as JSON can't represent it
+     */
+    public void writeDouble(
+            final double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON cannot represent non-finite number: " + value);
+        }
+        writeAscii(Double.toString(value));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is not finite, as JSON can't represent it
+     */
+    public void writeFloat(
+            final float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON cannot represent non-finite number: " + value);
+        }
+        writeAscii(Float.toString(value));
+    }
+
+    public void writeChar(
+            final char value) throws IOException {
+        ensure(MAX_CHAR_BYTES + 2);
+        buffer_[position_++] = '"';
+        if (Character.isSurrogate(value)) {
+            // Can't be encoded on its own.
+            writeEscaped(value);
+        } else {
+            writeChar0(value);
+        }
+        buffer_[position_++] = '"';
+    }
+
+    /**
+     * Writes the given string, quoted and escaped, or null.
+     */
+    public void writeString(
+            @Nullable final String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        writeByte((byte) '"');
+        for (int i = 0, l = value.length(); i < l; i++) {
+            ensure(MAX_CHAR_BYTES);
+            final char c = value.charAt(i);
+            if (c < 0x80 && c >= 0x20 && c != '"' && c != '\\') {
+                buffer_[position_++] = (byte) c;
+            } else if (Character.isHighSurrogate(c) && i + 1 < l && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                buffer_[position_++] = (byte) (0xF0 | (cp >> 18));
+                buffer_[position_++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer_[position_++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer_[position_++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate can't be encoded as UTF-8, but can be escaped.
+                writeEscaped(c);
+            } else {
+                writeChar0(c);
+            }
+        }
+        writeByte((byte) '"');
+    }
+
+    /**
+     * Writes whatever is buffered to the output stream, and flushes it.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        os_.flush();
+    }
+
+    /**
+     * Writes a character that is not a surrogate; the buffer has room for it.
+     */
+    private void writeChar0(
+            final char c) {
+        if (c < 0x80) {
+            switch (c) {
+                case '"':
+                case '\\':
+                    buffer_[position_++] = '\\';
+                    buffer_[position_++] = (byte) c;
+                    break;
+                case '\n':
+                    buffer_[position_++] = '\\';
+                    buffer_[position_++] = 'n';
+                    break;
+                case '\r':
+                    buffer_[position_++] = '\\';
+                    buffer_[position_++] = 'r';
+                    break;
+                case '\t':
+                    buffer_[position_++] = '\\';
+                    buffer_[position_++] = 't';
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writeEscaped(c);
+                    } else {
+                        buffer_[position_++] = (byte) c;
+                    }
+                    break;
+            }
+        } else if (c < 0x800) {
+            buffer_[position_++] = (byte) (0xC0 | (c >> 6));
+            buffer_[position_++] = (byte) (0x80 | (c & 0x3F));
+        } else {
+            buffer_[position_++] = (byte) (0xE0 | (c >> 12));
+            buffer_[position_++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer_[position_++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void writeEscaped(
+            final char c) {
+        buffer_[position_++] = '\\';
+        buffer_[position_++] = 'u';
+        buffer_[position_++] = HEX[(c >> 12) & 0xF];
+        buffer_[position_++] = HEX[(c >> 8) & 0xF];
+        buffer_[position_++] = HEX[(c >> 4) & 0xF];
+        buffer_[position_++] = HEX[c & 0xF];
+    }
+
+    private void writeAscii(
+            final String value) throws IOException {
+        final int length = value.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buffer_[position_++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void ensure(
+            final int length) throws IOException {
+        if (buffer_.length - position_ < length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position_ > 0) {
+            os_.write(buffer_, 0, position_);
+            position_ = 0;
+        }
+    }
+
+}
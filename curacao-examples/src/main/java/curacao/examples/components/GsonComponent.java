@@ -36,16 +36,19 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Component
 public final class GsonComponent {
 
+    private final Gson gson_;
+
     @Injectable
     public GsonComponent(
             final SessionCache cache,
             final InnerClass inner) {
         checkNotNull(cache, "Session cache cannot be null.");
         checkNotNull(inner, "Inner class cannot be null.");
+        gson_ = new GsonBuilder().serializeNulls().create();
     }
 
     public Gson getGsonInstance() {
-        return new GsonBuilder().serializeNulls().create();
+        return gson_;
     }
 
     /**
@@ -28,12 +28,13 @@ package curacao.examples.components;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import curacao.annotations.Component;
+import curacao.jackson.JacksonMapperRegistry;
 
 @Component
 public final class JacksonComponent {
 
     public ObjectMapper getMapperInstance() {
-        return new ObjectMapper();
+        return JacksonMapperRegistry.getDefault().getMapper();
     }
 
 }
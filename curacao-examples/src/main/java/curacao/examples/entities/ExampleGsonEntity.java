@@ -26,12 +26,15 @@
 
 package curacao.examples.entities;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import curacao.gson.AbstractGsonAppendableCuracaoEntity;
 
 public final class ExampleGsonEntity extends AbstractGsonAppendableCuracaoEntity {
 
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
     @SerializedName("foo")
     private final String foo_;
 
@@ -41,7 +44,7 @@ public final class ExampleGsonEntity extends AbstractGsonAppendableCuracaoEntity
     public ExampleGsonEntity(
             final String foo,
             final long bar) {
-        super(new GsonBuilder().serializeNulls().create());
+        super(GSON);
         foo_ = foo;
         bar_ = bar;
     }
@@ -26,31 +26,22 @@
 
 package curacao.examples.mappers.request;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import curacao.annotations.Injectable;
 import curacao.annotations.Mapper;
 import curacao.examples.components.JacksonComponent;
-import curacao.examples.entities.ExampleJacksonEntity;
-import curacao.mappers.request.types.body.AbstractInputStreamReaderRequestBodyMapper;
-
-import java.io.InputStreamReader;
+import curacao.jackson.AbstractJacksonRequestBodyMapper;
 
+/**
+ * Binds a JSON request body to any request body argument, like the {@code ExampleJacksonEntity} taken by the
+ * {@code JacksonExampleController}, that has no mapper of its own.
+ */
 @Mapper
-public final class ExampleJacksonArgumentMapper
-        extends AbstractInputStreamReaderRequestBodyMapper<ExampleJacksonEntity> {
-
-    private final ObjectMapper mapper_;
+public final class ExampleJacksonArgumentMapper extends AbstractJacksonRequestBodyMapper {
 
     @Injectable
     public ExampleJacksonArgumentMapper(
             final JacksonComponent jackson) {
-        mapper_ = jackson.getMapperInstance();
-    }
-
-    @Override
-    public ExampleJacksonEntity resolveWithReader(
-            final InputStreamReader reader) throws Exception {
-        return mapper_.readValue(reader, ExampleJacksonEntity.class);
+        super(jackson.getMapperInstance());
     }
 
 }
@@ -27,31 +27,66 @@
 package curacao.gson;
 
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 import curacao.entities.AbstractAppendableCuracaoEntity;
 
 import javax.annotation.Nonnull;
+import java.io.OutputStream;
 import java.io.Writer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.net.MediaType.JSON_UTF_8;
 
+/**
+ * An entity that renders itself as JSON, with a type adapter shared across all instances of the entity class
+ * (see {@link GsonAdapterRegistry}). The JSON is encoded as UTF-8 into a pooled buffer, which is then written to
+ * the response output stream all at once.
+ */
 public abstract class AbstractGsonAppendableCuracaoEntity extends AbstractAppendableCuracaoEntity {
 
     private static final int SC_OK = 200;
     private static final String JSON_UTF_8_TYPE = JSON_UTF_8.toString();
 
     // Is intentionally "transient" to avoid serialization by GSON.
-    private final transient Gson gson_;
+    private final transient GsonAdapterRegistry registry_;
+
+    public AbstractGsonAppendableCuracaoEntity(
+            @Nonnull final GsonAdapterRegistry registry) {
+        registry_ = checkNotNull(registry, "The GSON adapter registry cannot be null.");
+    }
 
     public AbstractGsonAppendableCuracaoEntity(
             @Nonnull final Gson gson) {
-        gson_ = checkNotNull(gson, "The GSON instance cannot be null.");
+        this(GsonAdapterRegistry.of(gson));
+    }
+
+    public AbstractGsonAppendableCuracaoEntity() {
+        this(GsonAdapterRegistry.getDefault());
     }
 
+    @Override
+    public final void write(
+            final OutputStream os) throws Exception {
+        try (OutputStream out = os;
+             PooledUtf8Writer writer = new PooledUtf8Writer()) {
+            toWriter(writer);
+            writer.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes this entity out as JSON to the provided {@link Writer}; responses are written through
+     * {@link #write(OutputStream)} instead.
+     */
     @Override
     public final void toWriter(
             final Writer writer) throws Exception {
-        gson_.toJson(this, writer);
+        final TypeAdapter<Object> adapter = registry_.getAdapter(getClass());
+        // Configured per the Gson instance, e.g., for pretty printing or null serialization.
+        final JsonWriter jsonWriter = registry_.getGson().newJsonWriter(writer);
+        adapter.write(jsonWriter, this);
+        jsonWriter.flush();
     }
 
     /**
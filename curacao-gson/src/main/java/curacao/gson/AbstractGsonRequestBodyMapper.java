@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import curacao.annotations.parameters.RequestBody;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyInputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getDefaultCharEncodingIfNotSpecified;
+import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
+
+/**
+ * Binds a JSON request body to any {@link RequestBody} argument/parameter type that has no mapper of its own,
+ * so no mapper class need be written per entity; register a subclass of this mapper in the boot package, e.g.,
+ * with an injectable constructor that hands it the application's {@link Gson} instance.
+ * <p>
+ * The body is parsed from the buffered body if one has already been buffered (e.g., by the dispatcher),
+ * otherwise from the request as it arrives, limited to the maximum request body size. The type adapter of each
+ * argument type is looked up once, and reused (see {@link GsonAdapterRegistry}).
+ */
+public abstract class AbstractGsonRequestBodyMapper extends AbstractControllerArgumentMapper<Object> {
+
+    private static final long DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES = getDefaultMaxRequestBodySizeInBytes();
+
+    private static final String DEFAULT_HTTP_REQUEST_CHARSET = getDefaultCharEncodingIfNotSpecified();
+
+    private final GsonAdapterRegistry registry_;
+
+    public AbstractGsonRequestBodyMapper(
+            @Nonnull final GsonAdapterRegistry registry) {
+        registry_ = checkNotNull(registry, "The GSON adapter registry cannot be null.");
+    }
+
+    public AbstractGsonRequestBodyMapper(
+            @Nonnull final Gson gson) {
+        this(GsonAdapterRegistry.of(gson));
+    }
+
+    /**
+     * Binds with the Gson instance of the default {@link GsonAdapterRegistry}.
+     */
+    public AbstractGsonRequestBodyMapper() {
+        this(GsonAdapterRegistry.getDefault());
+    }
+
+    /**
+     * Always null; without the type of the argument, there's nothing to bind the body to.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        return null;
+    }
+
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Type type) throws Exception {
+        // Only binds the entire body; a named request body argument is a parameter of a form-encoded body.
+        if (!(annotation instanceof RequestBody) || !"".equals(((RequestBody) annotation).value())) {
+            return null;
+        }
+        final RequestBody rb = (RequestBody) annotation;
+        final long maxLength = (rb.maxSizeInBytes() > 0L) ? rb.maxSizeInBytes() : DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
+        final TypeAdapter<Object> adapter = registry_.getAdapter(type);
+        try (InputStream is = openBody(ctx, maxLength);
+             JsonReader reader = registry_.getGson().newJsonReader(new InputStreamReader(is, getCharset(ctx)))) {
+            return readValue(adapter, reader);
+        }
+    }
+
+    /**
+     * Opens the buffered body, if the body has already been buffered, otherwise the body as it arrives.
+     */
+    private static InputStream openBody(
+            final CuracaoContext ctx,
+            final long maxLength) throws IOException {
+        final RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        if (body != null) {
+            if (maxLength > 0L && body.size() > maxLength) {
+                throw new RequestTooLargeException("Incoming request body was too large: " + body.size()
+                        + "-bytes > " + maxLength + "-bytes maximum.");
+            }
+            return body.asInputStream();
+        }
+        return RequestBodyInputStream.open(ctx.getRequest(), maxLength);
+    }
+
+    private static Charset getCharset(
+            final CuracaoContext ctx) {
+        final String encoding = ctx.getRequest().getCharacterEncoding();
+        return Charset.forName((encoding != null) ? encoding : DEFAULT_HTTP_REQUEST_CHARSET);
+    }
+
+    /**
+     * Binds the one JSON value read with the given adapter, like {@link Gson#fromJson(java.io.Reader, Type)}
+     * does, but without looking up the adapter again.
+     *
+     * @return the bound value, or null if the body is empty
+     */
+    @Nullable
+    private static Object readValue(
+            final TypeAdapter<Object> adapter,
+            final JsonReader reader) throws IOException {
+        boolean empty = true;
+        try {
+            reader.peek();
+            empty = false;
+            final Object value = adapter.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedRequestBodyException("Failed to bind JSON request body: trailing data after "
+                        + "the JSON value.");
+            }
+            return value;
+        } catch (final EOFException e) {
+            if (empty) {
+                return null;
+            }
+            throw new MalformedRequestBodyException("Failed to bind JSON request body.", e);
+        } catch (final JsonParseException | MalformedJsonException | IllegalStateException e) {
+            throw new MalformedRequestBodyException("Failed to bind JSON request body.", e);
+        }
+    }
+
+}
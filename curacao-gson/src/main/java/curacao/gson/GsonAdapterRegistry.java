@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.gson;
+
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import curacao.util.WeakIdentityRegistry;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Shares a {@link Gson} instance, and a {@link TypeAdapter} per type, across all requests; looking up the
+ * adapter of a type through Gson itself builds a type token and goes through the adapter factories for every
+ * value serialized.
+ * <p>
+ * There is one registry per Gson instance. The default registry, used by entities and mappers not given a Gson
+ * instance of their own, can be replaced at startup with one for a Gson instance configured by the application.
+ */
+public final class GsonAdapterRegistry {
+
+    /**
+     * Registries by Gson instance; see {@link WeakIdentityRegistry} for when a registry is dropped.
+     */
+    private static final WeakIdentityRegistry<Gson, GsonAdapterRegistry> REGISTRIES =
+            new WeakIdentityRegistry<>();
+
+    private static volatile GsonAdapterRegistry defaultRegistry_ = of(new Gson());
+
+    private final Gson gson_;
+
+    /**
+     * Adapters by type; the adapters Gson creates are safe to share across threads.
+     */
+    private final ConcurrentMap<Type, TypeAdapter<?>> adapters_;
+
+    private GsonAdapterRegistry(
+            final Gson gson) {
+        gson_ = gson;
+        adapters_ = Maps.newConcurrentMap();
+    }
+
+    /**
+     * The registry for the given Gson instance, shared for as long as it's referenced; hold onto it to keep its
+     * adapters cached across entities created per request.
+     */
+    @Nonnull
+    public static GsonAdapterRegistry of(
+            @Nonnull final Gson gson) {
+        checkNotNull(gson, "The GSON instance cannot be null.");
+        return REGISTRIES.get(gson, GsonAdapterRegistry::new);
+    }
+
+    @Nonnull
+    public static GsonAdapterRegistry getDefault() {
+        return defaultRegistry_;
+    }
+
+    /**
+     * Replaces the default registry with the one for the given Gson instance; only entities and mappers created
+     * from here on use it.
+     */
+    public static void setDefaultGson(
+            @Nonnull final Gson gson) {
+        defaultRegistry_ = of(gson);
+    }
+
+    @Nonnull
+    public Gson getGson() {
+        return gson_;
+    }
+
+    /**
+     * The adapter for values of the given type, looked up once and reused.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> getAdapter(
+            @Nonnull final Type type) {
+        checkNotNull(type, "Type cannot be null.");
+        return (TypeAdapter<T>) adapters_.computeIfAbsent(type, t -> gson_.getAdapter(TypeToken.get(t)));
+    }
+
+}
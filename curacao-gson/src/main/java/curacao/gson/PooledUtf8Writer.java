@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.gson;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A {@link Writer} that encodes what's written to it as UTF-8 into a byte[] buffer, to be written out all at
+ * once with {@link #writeTo(OutputStream)}; the buffer grows as needed.
+ * <p>
+ * Buffers are borrowed from a small bounded pool shared by all writers, and returned to it when the writer is
+ * closed; a buffer that grew larger than {@link #MAX_POOLED_BUFFER_SIZE} is dropped instead, so one large
+ * response doesn't pin a large buffer forever. Not thread safe.
+ */
+/* default */ final class PooledUtf8Writer extends Writer {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private static final int MAX_POOLED_BUFFER_SIZE = 65536;
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    /**
+     * Encodes this many chars at most per capacity check, which bounds how far a buffer grows past what's
+     * actually written to it.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * A char is encoded as at most 3 bytes; a surrogate pair, as 4 bytes for 2 chars.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    /**
+     * Written in place of an unpaired surrogate, like {@link java.io.OutputStreamWriter} does.
+     */
+    private static final byte REPLACEMENT = (byte) '?';
+
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    private byte[] buffer_;
+
+    private int count_;
+
+    /**
+     * The high surrogate of a surrogate pair split across writes, or zero if none.
+     */
+    private char highSurrogate_;
+
+    /* default */ PooledUtf8Writer() {
+        final byte[] buffer = POOL.poll();
+        buffer_ = (buffer != null) ? buffer : new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    @Override
+    public void write(
+            final int c) throws IOException {
+        ensureOpen();
+        ensureCapacity(MAX_BYTES_PER_CHAR + 1);
+        encode((char) c);
+    }
+
+    @Override
+    public void write(
+            @Nonnull final char[] cbuf,
+            final int off,
+            final int len) throws IOException {
+        ensureOpen();
+        for (int start = off, end = off + len; start < end; start += CHUNK_SIZE) {
+            final int chunkEnd = Math.min(end, start + CHUNK_SIZE);
+            ensureCapacity((chunkEnd - start) * MAX_BYTES_PER_CHAR + 1);
+            for (int i = start; i < chunkEnd; i++) {
+                encode(cbuf[i]);
+            }
+        }
+    }
+
+    @Override
+    public void write(
+            @Nonnull final String str,
+            final int off,
+            final int len) throws IOException {
+        ensureOpen();
+        for (int start = off, end = off + len; start < end; start += CHUNK_SIZE) {
+            final int chunkEnd = Math.min(end, start + CHUNK_SIZE);
+            ensureCapacity((chunkEnd - start) * MAX_BYTES_PER_CHAR + 1);
+            for (int i = start; i < chunkEnd; i++) {
+                encode(str.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Writes everything encoded so far to the given stream, in one write.
+     */
+    public void writeTo(
+            @Nonnull final OutputStream os) throws IOException {
+        ensureOpen();
+        if (highSurrogate_ != 0) {
+            // Never followed by its low surrogate.
+            ensureCapacity(1);
+            buffer_[count_++] = REPLACEMENT;
+            highSurrogate_ = 0;
+        }
+        os.write(buffer_, 0, count_);
+    }
+
+    /**
+     * Nothing to flush; everything written is buffered until {@link #writeTo(OutputStream)}.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns the buffer to the pool; the writer can't be written to once closed.
+     */
+    @Override
+    public void close() {
+        if (buffer_ == null) {
+            return;
+        }
+        if (buffer_.length <= MAX_POOLED_BUFFER_SIZE) {
+            // Drops the buffer on the floor if the pool is already full.
+            POOL.offer(buffer_);
+        }
+        buffer_ = null;
+    }
+
+    private void encode(
+            final char c) {
+        if (highSurrogate_ != 0) {
+            final char high = highSurrogate_;
+            highSurrogate_ = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                buffer_[count_++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer_[count_++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer_[count_++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer_[count_++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer_[count_++] = REPLACEMENT;
+        }
+        if (c < 0x80) {
+            buffer_[count_++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer_[count_++] = (byte) (0xC0 | (c >> 6));
+            buffer_[count_++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate_ = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer_[count_++] = REPLACEMENT;
+        } else {
+            buffer_[count_++] = (byte) (0xE0 | (c >> 12));
+            buffer_[count_++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer_[count_++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Makes room for at least the given number of bytes past those already buffered.
+     */
+    private void ensureCapacity(
+            final int bytes) {
+        final int required = count_ + bytes;
+        if (required > buffer_.length) {
+            final byte[] grown = new byte[Math.max(required, buffer_.length << 1)];
+            System.arraycopy(buffer_, 0, grown, 0, count_);
+            buffer_ = grown;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer_ == null) {
+            throw new IOException("Writer closed.");
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson.binary;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.net.HttpHeaders;
+import curacao.annotations.parameters.RequestBody;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.UnsupportedMediaTypeException;
+import curacao.jackson.AbstractJacksonRequestBodyMapper;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Binds a request body in whichever format the Content-Type of the request says it's in, to any
+ * {@link RequestBody} argument/parameter type that has no mapper of its own; a body in none of the formats is
+ * turned away with a 415 Unsupported Media Type. Otherwise, binds just like {@link AbstractJacksonRequestBodyMapper}
+ * does, limits and all; register a subclass of this mapper in the boot package instead of that one.
+ */
+public abstract class AbstractJacksonNegotiatingRequestBodyMapper extends AbstractControllerArgumentMapper<Object> {
+
+    private final JacksonCodecs codecs_;
+
+    /**
+     * A body mapper per codec, each with its own reader cache.
+     */
+    private final Map<JacksonCodec, AbstractJacksonRequestBodyMapper> mappers_;
+
+    public AbstractJacksonNegotiatingRequestBodyMapper(
+            @Nonnull final JacksonCodecs codecs) {
+        codecs_ = checkNotNull(codecs, "Codecs cannot be null.");
+        final ImmutableMap.Builder<JacksonCodec, AbstractJacksonRequestBodyMapper> mappers = ImmutableMap.builder();
+        for (final JacksonCodec codec : codecs.getCodecs()) {
+            mappers.put(codec, new AbstractJacksonRequestBodyMapper(codec.getMapper()) {
+            });
+        }
+        mappers_ = mappers.build();
+    }
+
+    /**
+     * JSON, CBOR, and Smile; a body with no Content-Type is taken to be JSON.
+     */
+    public AbstractJacksonNegotiatingRequestBodyMapper() {
+        this(JacksonCodecs.createDefault());
+    }
+
+    /**
+     * Always null; without the type of the argument, there's nothing to bind the body to.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        return null;
+    }
+
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Type type) throws Exception {
+        // Only binds the entire body; a named request body argument is a parameter of a form-encoded body.
+        if (!(annotation instanceof RequestBody) || !"".equals(((RequestBody) annotation).value())) {
+            return null;
+        }
+        final String contentType = ctx.getRequest().getHeader(HttpHeaders.CONTENT_TYPE);
+        final JacksonCodec codec = codecs_.forContentType(contentType);
+        if (codec == null) {
+            throw new UnsupportedMediaTypeException("Unsupported request body Content-Type: " + contentType);
+        }
+        return mappers_.get(codec).resolve(annotation, ctx, type);
+    }
+
+    /**
+     * Asks the per-codec mappers, as the codec isn't known until the request is processed; an iterator or stream
+     * of records is streamed from the body in every format, so the body is never buffered for it.
+     */
+    @Override
+    public final boolean requiresBufferedBody(
+            @Nullable final Annotation annotation,
+            @Nonnull final Type type) {
+        for (final AbstractJacksonRequestBodyMapper mapper : mappers_.values()) {
+            if (!mapper.requiresBufferedBody(annotation, type)) {
+                return false;
+            }
+        }
+        return super.requiresBufferedBody(annotation, type);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson.binary;
+
+import com.google.common.net.HttpHeaders;
+import curacao.core.servlet.AsyncContext;
+import curacao.core.servlet.HttpResponse;
+import curacao.mappers.response.AbstractControllerReturnTypeMapper;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Renders whatever a controller returns in the format the client asks for in the Accept header of the request,
+ * e.g., JSON for a browser, and CBOR or Smile for another service; controllers return the same type whatever
+ * the format. Register a subclass of this mapper in the boot package for the return type, or a supertype of
+ * the return types, to render this way.
+ */
+public abstract class AbstractJacksonNegotiatingReturnMapper<T> extends AbstractControllerReturnTypeMapper<T> {
+
+    private final JacksonCodecs codecs_;
+
+    public AbstractJacksonNegotiatingReturnMapper(
+            @Nonnull final JacksonCodecs codecs) {
+        codecs_ = checkNotNull(codecs, "Codecs cannot be null.");
+    }
+
+    /**
+     * JSON, CBOR, and Smile, in that order of preference.
+     */
+    public AbstractJacksonNegotiatingReturnMapper() {
+        this(JacksonCodecs.createDefault());
+    }
+
+    @Override
+    public final void render(
+            final AsyncContext context,
+            final HttpResponse response,
+            @Nonnull final T entity) throws Exception {
+        final JacksonCodec codec = codecs_.negotiate(context.getRequest().getHeader(HttpHeaders.ACCEPT));
+        // The response differs by the Accept header of the request, which caches need to know.
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        renderEntity(response, new JacksonCodecEntity(codec, entity));
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.common.net.MediaType;
+import curacao.jackson.JacksonMapperRegistry;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.net.MediaType.JSON_UTF_8;
+
+/**
+ * A serialization format, by its media type, and the Jackson mapper that reads and writes it; a mapper of a
+ * Jackson binary dataformat module, e.g., CBOR or Smile, or the plain JSON mapper. Any other format with a
+ * Jackson dataformat module can be plugged in through the constructor.
+ */
+public final class JacksonCodec {
+
+    public static final MediaType CBOR = MediaType.create("application", "cbor");
+
+    public static final MediaType SMILE = MediaType.create("application", "x-jackson-smile");
+
+    private final MediaType mediaType_;
+
+    private final JacksonMapperRegistry registry_;
+
+    public JacksonCodec(
+            @Nonnull final MediaType mediaType,
+            @Nonnull final ObjectMapper mapper) {
+        mediaType_ = checkNotNull(mediaType, "Media type cannot be null.");
+        registry_ = JacksonMapperRegistry.of(checkNotNull(mapper, "The Jackson object mapper instance cannot be "
+                + "null."));
+    }
+
+    /**
+     * JSON, with the mapper of the default {@link JacksonMapperRegistry}.
+     */
+    @Nonnull
+    public static JacksonCodec json() {
+        return new JacksonCodec(JSON_UTF_8, JacksonMapperRegistry.getDefault().getMapper());
+    }
+
+    /**
+     * CBOR (RFC 8949).
+     */
+    @Nonnull
+    public static JacksonCodec cbor() {
+        return new JacksonCodec(CBOR, new CBORMapper());
+    }
+
+    /**
+     * Smile, the binary JSON format of the Jackson project.
+     */
+    @Nonnull
+    public static JacksonCodec smile() {
+        return new JacksonCodec(SMILE, new SmileMapper());
+    }
+
+    /**
+     * The media type of the format, as sent in the Content-Type of a response.
+     */
+    @Nonnull
+    public MediaType getMediaType() {
+        return mediaType_;
+    }
+
+    @Nonnull
+    public ObjectMapper getMapper() {
+        return registry_.getMapper();
+    }
+
+    @Nonnull
+    public JacksonMapperRegistry getRegistry() {
+        return registry_;
+    }
+
+    @Override
+    public String toString() {
+        return mediaType_.toString();
+    }
+
+}
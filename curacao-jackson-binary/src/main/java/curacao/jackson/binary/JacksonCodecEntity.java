@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson.binary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import curacao.entities.CuracaoEntity;
+
+import java.io.OutputStream;
+
+import static curacao.core.servlet.HttpStatus.SC_OK;
+
+/**
+ * Renders a value in the format of the given codec, straight to the response output stream.
+ */
+/* default */ final class JacksonCodecEntity implements CuracaoEntity {
+
+    private final JacksonCodec codec_;
+
+    private final Object value_;
+
+    /* default */ JacksonCodecEntity(
+            final JacksonCodec codec,
+            final Object value) {
+        codec_ = codec;
+        value_ = value;
+    }
+
+    @Override
+    public int getStatus() {
+        return SC_OK;
+    }
+
+    @Override
+    public String getContentType() {
+        return codec_.getMediaType().toString();
+    }
+
+    @Override
+    public void write(
+            final OutputStream os) throws Exception {
+        final ObjectWriter writer = codec_.getRegistry().getWriter(value_.getClass());
+        try (JsonGenerator generator = writer.createGenerator(os)) {
+            writer.writeValue(generator, value_);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson.binary;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.net.MediaType;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The formats a service speaks, in order of preference; picks the format of a response from the Accept header
+ * of the request (RFC 7231, section 5.3.2), and the format of a request body from its Content-Type.
+ * <p>
+ * The first format is the default: it's used when the request has no Accept header, or no Content-Type, and for
+ * a response when none of the formats are acceptable to the client; RFC 7231 allows disregarding the Accept
+ * header, and a response in the default format is more useful to most clients than a 406 Not Acceptable.
+ */
+public final class JacksonCodecs {
+
+    private static final String WILDCARD = "*";
+
+    private static final String QUALITY = "q";
+
+    private static final Splitter ACCEPT_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private final List<JacksonCodec> codecs_;
+
+    public JacksonCodecs(
+            @Nonnull final List<JacksonCodec> codecs) {
+        checkNotNull(codecs, "Codecs cannot be null.");
+        checkArgument(!codecs.isEmpty(), "Codecs cannot be empty.");
+        codecs_ = ImmutableList.copyOf(codecs);
+    }
+
+    /**
+     * New codecs for JSON by default, then CBOR, then Smile.
+     */
+    @Nonnull
+    public static JacksonCodecs createDefault() {
+        return new JacksonCodecs(ImmutableList.of(JacksonCodec.json(), JacksonCodec.cbor(),
+                JacksonCodec.smile()));
+    }
+
+    @Nonnull
+    public List<JacksonCodec> getCodecs() {
+        return codecs_;
+    }
+
+    /**
+     * The format of a response to a request with the given Accept header: the one the client prefers most, per
+     * the quality values of the media ranges that match it, or the earliest of those it prefers equally.
+     */
+    @Nonnull
+    public JacksonCodec negotiate(
+            @Nullable final String accept) {
+        if (accept == null) {
+            return codecs_.get(0);
+        }
+        final List<MediaType> ranges = parseAccept(accept);
+        JacksonCodec best = null;
+        double bestQuality = 0.0d;
+        for (final JacksonCodec codec : codecs_) {
+            final double quality = getQuality(codec.getMediaType().withoutParameters(), ranges);
+            if (quality > bestQuality) {
+                best = codec;
+                bestQuality = quality;
+            }
+        }
+        return (best != null) ? best : codecs_.get(0);
+    }
+
+    /**
+     * The format of a request body with the given Content-Type, or null if none of the formats match it.
+     */
+    @Nullable
+    public JacksonCodec forContentType(
+            @Nullable final String contentType) {
+        if (contentType == null) {
+            return codecs_.get(0);
+        }
+        final MediaType mediaType;
+        try {
+            mediaType = MediaType.parse(contentType).withoutParameters();
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+        for (final JacksonCodec codec : codecs_) {
+            if (codec.getMediaType().withoutParameters().equals(mediaType)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the media ranges of the given Accept header; any range that can't be parsed is skipped.
+     */
+    private static List<MediaType> parseAccept(
+            final String accept) {
+        final ImmutableList.Builder<MediaType> ranges = ImmutableList.builder();
+        for (final String range : ACCEPT_SPLITTER.split(accept)) {
+            try {
+                ranges.add(MediaType.parse(range));
+            } catch (final IllegalArgumentException e) {
+                // Skip.
+            }
+        }
+        return ranges.build();
+    }
+
+    /**
+     * The quality of the given media type per the most specific of the given media ranges that matches it, or
+     * zero if none match.
+     */
+    private static double getQuality(
+            final MediaType mediaType,
+            final List<MediaType> ranges) {
+        int bestSpecificity = -1;
+        double quality = 0.0d;
+        for (final MediaType range : ranges) {
+            if (!mediaType.is(range.withoutParameters())) {
+                continue;
+            }
+            final int specificity = (WILDCARD.equals(range.type())) ? 0
+                    : (WILDCARD.equals(range.subtype())) ? 1 : 2;
+            if (specificity > bestSpecificity) {
+                bestSpecificity = specificity;
+                quality = parseQuality(Iterables.getFirst(range.parameters().get(QUALITY), null));
+            }
+        }
+        return quality;
+    }
+
+    private static double parseQuality(
+            @Nullable final String quality) {
+        if (quality == null) {
+            return 1.0d;
+        }
+        try {
+            return Math.max(0.0d, Math.min(1.0d, Double.parseDouble(quality)));
+        } catch (final NumberFormatException e) {
+            return 0.0d;
+        }
+    }
+
+}
@@ -27,36 +27,63 @@
 package curacao.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import curacao.entities.AbstractAppendableCuracaoEntity;
 
 import javax.annotation.Nonnull;
+import java.io.OutputStream;
 import java.io.Writer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.net.MediaType.JSON_UTF_8;
 
+/**
+ * An entity that renders itself as JSON, with a mapper and writer shared across all instances of the entity
+ * class (see {@link JacksonMapperRegistry}). The JSON is written as UTF-8 straight to the response output stream,
+ * without going through a {@link Writer}.
+ */
 @JsonIgnoreProperties({"status", "contentType"})
 public abstract class AbstractJacksonAppendableCuracaoEntity extends AbstractAppendableCuracaoEntity {
 
     private static final int SC_OK = 200;
     private static final String JSON_UTF_8_TYPE = JSON_UTF_8.toString();
 
-    private final transient ObjectMapper mapper_;
+    private final transient JacksonMapperRegistry registry_;
+
+    public AbstractJacksonAppendableCuracaoEntity(
+            @Nonnull final JacksonMapperRegistry registry) {
+        registry_ = checkNotNull(registry, "The Jackson mapper registry cannot be null.");
+    }
 
     public AbstractJacksonAppendableCuracaoEntity(
             @Nonnull final ObjectMapper mapper) {
-        mapper_ = checkNotNull(mapper, "The Jackson object mapper instance cannot be null.");
+        this(JacksonMapperRegistry.of(mapper));
     }
 
     public AbstractJacksonAppendableCuracaoEntity() {
-        this(new ObjectMapper());
+        this(JacksonMapperRegistry.getDefault());
     }
 
+    @Override
+    public final void write(
+            final OutputStream os) throws Exception {
+        final ObjectWriter writer = registry_.getWriter(getClass());
+        try (JsonGenerator generator = writer.createGenerator(os, JsonEncoding.UTF8)) {
+            writer.writeValue(generator, this);
+        }
+    }
+
+    /**
+     * Writes this entity out as JSON to the provided {@link Writer}; responses are written through
+     * {@link #write(OutputStream)} instead.
+     */
     @Override
     public final void toWriter(
             final Writer writer) throws Exception {
-        mapper_.writeValue(writer, this);
+        registry_.getWriter(getClass()).writeValue(writer, this);
     }
 
     /**
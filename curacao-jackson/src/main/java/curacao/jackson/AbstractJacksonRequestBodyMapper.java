@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.collect.Maps;
+import curacao.annotations.parameters.RequestBody;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyInputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
+
+/**
+ * Binds a JSON request body to any {@link RequestBody} argument/parameter type that has no mapper of its own,
+ * so no mapper class need be written per entity; register a subclass of this mapper in the boot package, e.g.,
+ * with an injectable constructor that hands it the application's {@link ObjectMapper}.
+ * <p>
+ * The body is parsed straight from its bytes, never decoded into characters first: from the buffered body if
+ * one has already been buffered (e.g., by the dispatcher), otherwise from the request as it arrives, limited
+ * to the maximum request body size. An {@link ObjectReader} is created once per argument type, and reused.
+ * <p>
+ * A body too large to bind as a whole, e.g., for bulk ingest, can be bound to an {@code Iterator<T>} or
+ * {@code Stream<T>} argument instead, from a JSON array of records, or newline-delimited JSON (NDJSON); records
+ * are then bound as they arrive, so memory use stays the same no matter how many there are.
+ */
+public abstract class AbstractJacksonRequestBodyMapper extends AbstractControllerArgumentMapper<Object> {
+
+    private static final long DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES = getDefaultMaxRequestBodySizeInBytes();
+
+    private final ObjectMapper mapper_;
+
+    /**
+     * The maximum size of a single record of a body bound to an iterator or stream, or zero (or less) for no
+     * limit.
+     */
+    private final long maxRecordSize_;
+
+    /**
+     * Readers by argument type; an {@link ObjectReader} is immutable, and so safe to share across threads.
+     */
+    private final ConcurrentMap<Type, ObjectReader> readers_;
+
+    public AbstractJacksonRequestBodyMapper(
+            @Nonnull final ObjectMapper mapper,
+            final long maxRecordSizeInBytes) {
+        mapper_ = checkNotNull(mapper, "The Jackson object mapper instance cannot be null.");
+        maxRecordSize_ = maxRecordSizeInBytes;
+        readers_ = Maps.newConcurrentMap();
+    }
+
+    /**
+     * Records of a body bound to an iterator or stream are limited to the configured max request body size.
+     */
+    public AbstractJacksonRequestBodyMapper(
+            @Nonnull final ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES);
+    }
+
+    /**
+     * Binds with the mapper of the default {@link JacksonMapperRegistry}.
+     */
+    public AbstractJacksonRequestBodyMapper() {
+        this(JacksonMapperRegistry.getDefault().getMapper());
+    }
+
+    /**
+     * Always null; without the type of the argument, there's nothing to bind the body to.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        return null;
+    }
+
+    /**
+     * Binds the body to the given type. An {@link Iterator} or {@link Stream} argument binds the records of the
+     * body lazily instead, one at a time, as the controller asks for them; the body is then not limited as a
+     * whole, unless the request body annotation says so, but each record is.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Type type) throws Exception {
+        // Only binds the entire body; a named request body argument is a parameter of a form-encoded body.
+        if (!(annotation instanceof RequestBody) || !"".equals(((RequestBody) annotation).value())) {
+            return null;
+        }
+        final RequestBody rb = (RequestBody) annotation;
+        final Class<?> rawType = TypeFactory.rawClass(type);
+        final boolean records = isRecords(rawType);
+        final long maxLength = (rb.maxSizeInBytes() > 0L) ? rb.maxSizeInBytes()
+                : (records) ? 0L : DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
+        final ObjectReader reader = readers_.computeIfAbsent(type, this::createReader);
+        final InputStream is = openBody(ctx, maxLength);
+        if (records) {
+            final JacksonRecordIterator<Object> iterator = new JacksonRecordIterator<>(reader, is, maxRecordSize_);
+            if (Iterator.class.equals(rawType)) {
+                return iterator;
+            }
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+        }
+        try (is) {
+            return readValue(reader, is);
+        }
+    }
+
+    /**
+     * The records of a body bound to an {@link Iterator} or {@link Stream} are parsed as they arrive, so the body
+     * is never buffered for them.
+     */
+    @Override
+    public final boolean requiresBufferedBody(
+            @Nullable final Annotation annotation,
+            @Nonnull final Type type) {
+        return super.requiresBufferedBody(annotation, type) && !isRecords(TypeFactory.rawClass(type));
+    }
+
+    private ObjectReader createReader(
+            final Type type) {
+        final JavaType javaType = mapper_.getTypeFactory().constructType(type);
+        // The reader for an iterator or stream of records binds the records themselves.
+        return mapper_.readerFor((isRecords(javaType.getRawClass())) ? javaType.containedTypeOrUnknown(0) : javaType);
+    }
+
+    /**
+     * Opens the buffered body, if the body has already been buffered, otherwise the body as it arrives.
+     */
+    private static InputStream openBody(
+            final CuracaoContext ctx,
+            final long maxLength) throws IOException {
+        final RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        if (body != null) {
+            if (maxLength > 0L && body.size() > maxLength) {
+                throw new RequestTooLargeException("Incoming request body was too large: " + body.size()
+                        + "-bytes > " + maxLength + "-bytes maximum.");
+            }
+            return body.asInputStream();
+        }
+        return RequestBodyInputStream.open(ctx.getRequest(), maxLength);
+    }
+
+    private static boolean isRecords(
+            final Class<?> rawType) {
+        return Iterator.class.equals(rawType) || Stream.class.equals(rawType);
+    }
+
+    /**
+     * Binds the JSON read from the given stream with the given reader.
+     *
+     * @return the bound value, or null if the body is empty
+     */
+    @Nullable
+    private static Object readValue(
+            final ObjectReader reader,
+            final InputStream is) throws IOException {
+        try (JsonParser parser = reader.createParser(is)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return reader.readValue(parser);
+        } catch (final JsonProcessingException e) {
+            throw new MalformedRequestBodyException("Failed to bind JSON request body.", e);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.collect.Maps;
+import curacao.util.WeakIdentityRegistry;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Shares a Jackson {@link ObjectMapper}, and an {@link ObjectWriter} per entity class, across all requests; a
+ * mapper builds its serializers once and caches them, so a mapper created per response would rebuild them for
+ * every response.
+ * <p>
+ * There is one registry per mapper instance. The default registry, used by entities and mappers not given a
+ * mapper of their own, can be replaced at startup with one for a mapper configured by the application, e.g.,
+ * with modules registered.
+ */
+public final class JacksonMapperRegistry {
+
+    /**
+     * Registries by mapper instance; a registry holds its mapper, so both are held weakly and a registry is
+     * dropped, along with its mapper, once no entity or mapper references it.
+     */
+    private static final WeakIdentityRegistry<ObjectMapper, JacksonMapperRegistry> REGISTRIES =
+            new WeakIdentityRegistry<>();
+
+    private static volatile JacksonMapperRegistry defaultRegistry_ = of(new ObjectMapper());
+
+    private final ObjectMapper mapper_;
+
+    /**
+     * Writers by entity class; an {@link ObjectWriter} is immutable, and so safe to share across threads.
+     */
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers_;
+
+    private JacksonMapperRegistry(
+            final ObjectMapper mapper) {
+        mapper_ = mapper;
+        writers_ = Maps.newConcurrentMap();
+    }
+
+    /**
+     * The registry for the given mapper; the mapper should not be reconfigured once registered, as writers
+     * already created would not see the change. The same registry is returned for as long as it's referenced,
+     * so callers creating entities per request with a mapper of their own should hold onto its registry, and
+     * pass that in, to keep its writers cached between requests.
+     */
+    @Nonnull
+    public static JacksonMapperRegistry of(
+            @Nonnull final ObjectMapper mapper) {
+        checkNotNull(mapper, "The Jackson object mapper instance cannot be null.");
+        return REGISTRIES.get(mapper, JacksonMapperRegistry::new);
+    }
+
+    @Nonnull
+    public static JacksonMapperRegistry getDefault() {
+        return defaultRegistry_;
+    }
+
+    /**
+     * Replaces the default registry with the one for the given mapper; only entities and mappers created from
+     * here on use it.
+     */
+    public static void setDefaultMapper(
+            @Nonnull final ObjectMapper mapper) {
+        defaultRegistry_ = of(mapper);
+    }
+
+    @Nonnull
+    public ObjectMapper getMapper() {
+        return mapper_;
+    }
+
+    /**
+     * The writer for values of the given class, created once and reused. Note the writer doesn't flush after
+     * each value written to a {@link com.fasterxml.jackson.core.JsonGenerator}, so that values can be streamed
+     * out one after another; the generator is flushed when it's closed.
+     */
+    @Nonnull
+    public ObjectWriter getWriter(
+            @Nonnull final Class<?> clazz) {
+        checkNotNull(clazz, "Class cannot be null.");
+        return writers_.computeIfAbsent(clazz,
+                c -> mapper_.writerFor(c).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Binds the records of a JSON request body one at a time, as the controller asks for them; the body is either a
+ * JSON array of records, or a sequence of records at the root level, like newline-delimited JSON (NDJSON).
+ * <p>
+ * Only the record being bound is ever held in memory. The size of each record is limited: the parser may only
+ * read so far past the start of the current record before the request is turned away with a 413 Request Entity
+ * Too Large, so an oversized record is never read in full, let alone bound.
+ * <p>
+ * The parser is closed once the last record has been read, or when this iterator is closed. Not thread safe.
+ */
+/* default */ final class JacksonRecordIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * How many bytes the parser may read past the current record, to fill its input buffer; a little more than
+     * the input buffer of the Jackson byte-based parser.
+     */
+    private static final long READ_AHEAD_BYTES = 8192L;
+
+    private final RecordLimitingInputStream input_;
+
+    private final JsonParser parser_;
+
+    private final MappingIterator<T> records_;
+
+    /**
+     * The maximum size of a single record in bytes, or zero (or less) for no limit.
+     */
+    private final long maxRecordSize_;
+
+    private boolean closed_ = false;
+
+    /* default */ JacksonRecordIterator(
+            @Nonnull final ObjectReader reader,
+            @Nonnull final InputStream input,
+            final long maxRecordSize) throws IOException {
+        checkNotNull(reader, "Object reader cannot be null.");
+        checkNotNull(input, "Input stream cannot be null.");
+        input_ = new RecordLimitingInputStream(input);
+        maxRecordSize_ = maxRecordSize;
+        parser_ = reader.createParser(input_);
+        try {
+            // Skips the start of a JSON array of records, if any; the records end with the array.
+            if (parser_.nextToken() == JsonToken.START_ARRAY && parser_.nextToken() == JsonToken.END_ARRAY) {
+                // An empty array has no records.
+                parser_.clearCurrentToken();
+            }
+            records_ = reader.readValues(parser_);
+        } catch (final JsonProcessingException e) {
+            parser_.close();
+            throw new MalformedRequestBodyException("Failed to read JSON request body records.", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed_) {
+            return false;
+        }
+        final boolean hasNext;
+        try {
+            hasNext = records_.hasNext();
+        } catch (final RuntimeJsonMappingException e) {
+            throw new MalformedRequestBodyException("Failed to read JSON request body records.", e);
+        }
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        // The parser is now at the first token of the next record.
+        final long start = parser_.currentTokenLocation().getByteOffset();
+        if (maxRecordSize_ > 0L) {
+            input_.limit_ = start + maxRecordSize_ + READ_AHEAD_BYTES;
+        }
+        final T record;
+        try {
+            record = records_.nextValue();
+        } catch (final JsonProcessingException e) {
+            // Jackson wraps the failure of the input stream when reading the record, if that's what failed.
+            if (input_.isOverLimit()) {
+                throw recordTooLarge();
+            }
+            throw new MalformedRequestBodyException("Failed to bind JSON request body record.", e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read JSON request body record.", e);
+        }
+        // Only the record itself is limited, not whatever separates it from the next one.
+        input_.limit_ = 0L;
+        final long size = parser_.currentLocation().getByteOffset() - start;
+        if (maxRecordSize_ > 0L && size > maxRecordSize_) {
+            throw recordTooLarge();
+        }
+        return record;
+    }
+
+    @Override
+    public void close() {
+        if (closed_) {
+            return;
+        }
+        closed_ = true;
+        try {
+            // Closes the body input stream too.
+            parser_.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to close JSON request body parser.", e);
+        }
+    }
+
+    private RequestTooLargeException recordTooLarge() {
+        return new RequestTooLargeException("Incoming request body has a record that is too large: more than "
+                + maxRecordSize_ + "-bytes maximum.");
+    }
+
+    /**
+     * Fails once more of the body is read than the current record may span.
+     */
+    private final class RecordLimitingInputStream extends FilterInputStream {
+
+        /**
+         * How far into the body the parser may read, or zero (or less) for no limit.
+         */
+        private long limit_;
+
+        private long count_;
+
+        private RecordLimitingInputStream(
+                final InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                count(1L);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(
+                final byte[] b,
+                final int off,
+                final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(
+                final long read) {
+            count_ += read;
+            if (isOverLimit()) {
+                throw recordTooLarge();
+            }
+        }
+
+        private boolean isOverLimit() {
+            return limit_ > 0L && count_ > limit_;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import curacao.entities.streaming.AbstractStreamingCuracaoEntity;
+import curacao.entities.streaming.ElementWriter;
+import curacao.entities.streaming.EntityCursor;
+
+import javax.annotation.Nonnull;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.net.MediaType.JSON_UTF_8;
+
+/**
+ * Renders the elements of an iterator, stream, or cursor as a JSON array, written element by element through a
+ * {@link JsonGenerator} straight to the response output stream; unlike a list rendered with
+ * {@link AbstractJacksonAppendableCuracaoEntity}, the whole result set is never held in memory at once.
+ * <p>
+ * Each element is written with the writer for its class from the {@link JacksonMapperRegistry}. A stream, or a
+ * closeable iterator, is closed once the array is written, or when writing fails, e.g., because the client
+ * disconnected; in the latter case, the array is left unclosed, so the client can tell it was cut short.
+ */
+public final class JacksonStreamingArrayCuracaoEntity<T> extends AbstractStreamingCuracaoEntity<T> {
+
+    private static final int SC_OK = 200;
+
+    private final JacksonMapperRegistry registry_;
+
+    public JacksonStreamingArrayCuracaoEntity(
+            @Nonnull final JacksonMapperRegistry registry,
+            @Nonnull final EntityCursor<T> cursor) {
+        super(SC_OK, JSON_UTF_8, cursor);
+        registry_ = checkNotNull(registry, "The Jackson mapper registry cannot be null.");
+    }
+
+    public JacksonStreamingArrayCuracaoEntity(
+            @Nonnull final EntityCursor<T> cursor) {
+        this(JacksonMapperRegistry.getDefault(), cursor);
+    }
+
+    public JacksonStreamingArrayCuracaoEntity(
+            @Nonnull final Iterator<T> iterator) {
+        this(EntityCursor.of(iterator));
+    }
+
+    public JacksonStreamingArrayCuracaoEntity(
+            @Nonnull final Stream<T> stream) {
+        this(EntityCursor.of(stream));
+    }
+
+    @Nonnull
+    @Override
+    protected ElementWriter<T> open(
+            final OutputStream os) throws Exception {
+        final JsonGenerator generator = registry_.getMapper().createGenerator(os, JsonEncoding.UTF8);
+        generator.writeStartArray();
+        return new ElementWriter<T>() {
+            @Override
+            public void write(
+                    final T element) throws Exception {
+                if (element == null) {
+                    generator.writeNull();
+                } else {
+                    registry_.getWriter(element.getClass()).writeValue(generator, element);
+                }
+            }
+
+            @Override
+            public void flush() throws Exception {
+                generator.flush();
+            }
+
+            @Override
+            public void finish() throws Exception {
+                generator.writeEndArray();
+                generator.close();
+            }
+        };
+    }
+
+}
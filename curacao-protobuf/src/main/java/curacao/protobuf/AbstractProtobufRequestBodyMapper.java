@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import curacao.annotations.parameters.RequestBody;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyInputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
+
+/**
+ * Binds a protobuf request body to any {@link RequestBody} argument/parameter whose type is a generated protobuf
+ * message class; register a subclass of this mapper in the boot package. Arguments of any other type are left
+ * to other mappers, e.g., one that binds JSON.
+ * <p>
+ * A buffered body is parsed straight from its backing array, or from the memory-mapped spill file, without a
+ * copy (see {@link RequestBodyBuffer#readArray(RequestBodyBuffer.ArrayReader)}). Otherwise, the body is parsed
+ * as it arrives, limited to the maximum request body size. The parser of each message class is discovered once;
+ * message classes given to the constructor are discovered right away, at startup, rather than on first use.
+ */
+public abstract class AbstractProtobufRequestBodyMapper extends AbstractControllerArgumentMapper<Object> {
+
+    private static final long DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES = getDefaultMaxRequestBodySizeInBytes();
+
+    @SafeVarargs
+    public AbstractProtobufRequestBodyMapper(
+            @Nonnull final Class<? extends MessageLite>... messageTypes) {
+        checkNotNull(messageTypes, "Message types cannot be null.");
+        for (final Class<? extends MessageLite> messageType : messageTypes) {
+            ProtobufParsers.getParser(messageType);
+        }
+    }
+
+    /**
+     * Always null; without the type of the argument, there's nothing to bind the body to.
+     */
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        return null;
+    }
+
+    @Override
+    public final Object resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Type type) throws Exception {
+        // Only binds the entire body; a named request body argument is a parameter of a form-encoded body.
+        if (!(annotation instanceof RequestBody) || !"".equals(((RequestBody) annotation).value())
+                || !(type instanceof Class) || !ProtobufParsers.isMessage((Class<?>) type)) {
+            return null;
+        }
+        final RequestBody rb = (RequestBody) annotation;
+        final long maxLength = (rb.maxSizeInBytes() > 0L) ? rb.maxSizeInBytes() : DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
+        final Parser<MessageLite> parser = ProtobufParsers.getParser((Class<?>) type);
+        final RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        if (body == null) {
+            try (InputStream is = RequestBodyInputStream.open(ctx.getRequest(), maxLength)) {
+                return parse(parser, CodedInputStream.newInstance(is));
+            }
+        } else if (maxLength > 0L && body.size() > maxLength) {
+            throw new RequestTooLargeException("Incoming request body was too large: " + body.size()
+                    + "-bytes > " + maxLength + "-bytes maximum.");
+        } else if (body.isSpilled()) {
+            // A direct, memory-mapped buffer, which is read in place.
+            return parse(parser, CodedInputStream.newInstance(body.asByteBuffer()));
+        }
+        return body.readArray((array, offset, length) ->
+                parse(parser, CodedInputStream.newInstance(array, offset, length)));
+    }
+
+    private static MessageLite parse(
+            final Parser<MessageLite> parser,
+            final CodedInputStream input) {
+        try {
+            return parser.parseFrom(input);
+        } catch (final InvalidProtocolBufferException e) {
+            throw new MalformedRequestBodyException("Failed to parse protobuf request body.", e);
+        }
+    }
+
+}
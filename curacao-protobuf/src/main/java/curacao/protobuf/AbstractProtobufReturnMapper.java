@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.protobuf;
+
+import com.google.common.net.HttpHeaders;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import curacao.core.servlet.AsyncContext;
+import curacao.core.servlet.HttpResponse;
+import curacao.mappers.response.AbstractControllerReturnTypeMapper;
+
+import javax.annotation.Nonnull;
+import java.io.OutputStream;
+
+import static com.google.common.net.MediaType.PROTOBUF;
+import static curacao.core.servlet.HttpStatus.SC_OK;
+
+/**
+ * Renders a protobuf message returned by a controller, with its Content-Length, written through a
+ * {@link CodedOutputStream} straight to the response output stream; register a subclass of this mapper in the
+ * boot package, for {@link MessageLite} to render every message this way, or for a specific message class.
+ */
+public abstract class AbstractProtobufReturnMapper<T extends MessageLite>
+        extends AbstractControllerReturnTypeMapper<T> {
+
+    private static final String PROTOBUF_CONTENT_TYPE = PROTOBUF.toString();
+
+    @Override
+    public final void render(
+            final AsyncContext context,
+            final HttpResponse response,
+            @Nonnull final T entity) throws Exception {
+        // Memoized by generated messages, so the message is only sized once.
+        final int size = entity.getSerializedSize();
+        response.setStatus(SC_OK);
+        response.setContentType(PROTOBUF_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(size));
+        try (OutputStream os = response.getOutputStream()) {
+            // Never buffers more than the message itself.
+            final CodedOutputStream output = CodedOutputStream.newInstance(os,
+                    CodedOutputStream.computePreferredBufferSize(size));
+            entity.writeTo(output);
+            output.flush();
+        }
+    }
+
+}
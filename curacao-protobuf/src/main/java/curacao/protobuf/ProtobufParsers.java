@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.protobuf;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Discovers the {@link Parser} of a generated protobuf message class, through its static
+ * {@code getDefaultInstance()} method, once per class; reflection is never used again for a class once its
+ * parser has been found.
+ */
+/* default */ final class ProtobufParsers {
+
+    private static final String GET_DEFAULT_INSTANCE = "getDefaultInstance";
+
+    private static final ClassValue<Parser<?>> PARSERS = new ClassValue<Parser<?>>() {
+        @Override
+        protected Parser<?> computeValue(
+                final Class<?> type) {
+            return discover(type);
+        }
+    };
+
+    // Cannot instantiate
+    private ProtobufParsers() {
+    }
+
+    /**
+     * Whether the given type is that of a protobuf message, of which a parser can be discovered.
+     */
+    /* default */ static boolean isMessage(
+            @Nonnull final Class<?> type) {
+        return MessageLite.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())
+                && !type.isInterface();
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    /* default */ static <T extends MessageLite> Parser<T> getParser(
+            @Nonnull final Class<?> type) {
+        checkNotNull(type, "Message type cannot be null.");
+        return (Parser<T>) PARSERS.get(type);
+    }
+
+    private static Parser<?> discover(
+            final Class<?> type) {
+        try {
+            final Method getDefaultInstance = type.getMethod(GET_DEFAULT_INSTANCE);
+            final MessageLite defaultInstance = (MessageLite) getDefaultInstance.invoke(null);
+            return defaultInstance.getParserForType();
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Failed to discover the protobuf parser of type: "
+                    + type.getName(), e);
+        }
+    }
+
+}
@@ -28,10 +28,13 @@ package curacao.servlet.jakarta;
 
 import com.google.common.util.concurrent.FutureCallback;
 import curacao.context.CuracaoContext;
+import curacao.context.CuracaoRequestContextPool;
+import curacao.core.CuracaoRequestTracker;
 import curacao.exceptions.async.AsyncException;
 import jakarta.servlet.AsyncEvent;
 import jakarta.servlet.AsyncListener;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -42,17 +45,32 @@ public final class CuracaoJakartaAsyncListener implements AsyncListener {
 
     private final FutureCallback<Object> callback_;
 
+    private final CuracaoRequestTracker requestTracker_;
+
+    /**
+     * The pool the context came from, or null if context reuse is disabled.
+     */
+    private final CuracaoRequestContextPool contextPool_;
+
     public CuracaoJakartaAsyncListener(
             final CuracaoContext ctx,
-            final FutureCallback<Object> callback) {
+            final FutureCallback<Object> callback,
+            final CuracaoRequestTracker requestTracker,
+            @Nullable final CuracaoRequestContextPool contextPool) {
         ctx_ = checkNotNull(ctx, "Curacao context cannot be null.");
         callback_ = checkNotNull(callback, "Future callback cannot be null.");
+        requestTracker_ = checkNotNull(requestTracker, "Request tracker cannot be null.");
+        contextPool_ = contextPool;
     }
 
     @Override
     public void onComplete(
             final AsyncEvent event) throws IOException {
-        // No-op
+        // The Servlet container fires this exactly once per async context, however the request completed.
+        requestTracker_.release();
+        if (contextPool_ != null) {
+            contextPool_.release(ctx_);
+        }
     }
 
     @Override
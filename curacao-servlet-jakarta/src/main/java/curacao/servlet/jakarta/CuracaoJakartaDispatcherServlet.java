@@ -32,22 +32,37 @@ import com.google.common.util.concurrent.ListenableFuture;
 import curacao.CuracaoConfig;
 import curacao.context.CuracaoContext;
 import curacao.context.CuracaoRequestContext;
+import curacao.context.CuracaoRequestContextPool;
 import curacao.core.CuracaoControllerInvoker;
 import curacao.core.CuracaoCoreObjectMap;
+import curacao.core.CuracaoInvokable;
+import curacao.core.CuracaoRequestTracker;
+import curacao.exceptions.CuracaoException;
 import curacao.handlers.ReturnTypeMapperCallbackHandler;
+import curacao.mappers.MapperTable;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyDecoder;
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.net.HttpHeaders.CONNECTION;
+import static com.google.common.net.HttpHeaders.CONTENT_ENCODING;
+import static com.google.common.net.HttpHeaders.TRANSFER_ENCODING;
 import static curacao.core.CuracaoCoreObjectMap.getObjectMapFromContext;
 
 public class CuracaoJakartaDispatcherServlet extends GenericServlet {
 
     private CuracaoCoreObjectMap coreObjectMap_;
 
+    private boolean readBodyNonBlocking_;
+
     @Override
     public final void init(
             final ServletConfig config) throws ServletException {
@@ -61,6 +76,8 @@ public class CuracaoJakartaDispatcherServlet extends GenericServlet {
         coreObjectMap_ = checkNotNull(coreObjectMap, "No Curacao core object map was "
                 + "attached to context. Curacao Servlet context listener not defined in web.xml?");
 
+        readBodyNonBlocking_ = CuracaoConfig.getReadBodyNonBlocking();
+
         start(coreObjectMap_.servletCtx_);
     }
 
@@ -73,22 +90,125 @@ public class CuracaoJakartaDispatcherServlet extends GenericServlet {
     public final void service(
             final ServletRequest request,
             final ServletResponse response) throws ServletException, IOException {
-        final AsyncContext asyncContext = request.startAsync(request, response);
+        final CuracaoRequestTracker requestTracker = coreObjectMap_.requestTracker_;
+        // The context is shutting down; turn the request away quickly, instead of accepting work that may never
+        // complete. Ask the client to close the connection so it reconnects to a healthy instance.
+        if (!requestTracker.tryAcquire()) {
+            if (response instanceof HttpServletResponse) {
+                final HttpServletResponse httpResponse = (HttpServletResponse) response;
+                httpResponse.setHeader(CONNECTION, "close");
+                httpResponse.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+            return;
+        }
+
+        final AsyncContext asyncContext;
+        try {
+            asyncContext = request.startAsync(request, response);
+        } catch (final RuntimeException e) {
+            requestTracker.release();
+            throw e;
+        }
 
-        final CuracaoContext ctx =
-                new CuracaoRequestContext(coreObjectMap_, new JakartaAsyncContext(asyncContext));
+        final CuracaoRequestContextPool contextPool = coreObjectMap_.contextPool_;
+        final JakartaAsyncContext curacaoAsyncContext = new JakartaAsyncContext(asyncContext);
+        final CuracaoContext ctx = (contextPool != null)
+                ? contextPool.acquire(coreObjectMap_, curacaoAsyncContext)
+                : new CuracaoRequestContext(coreObjectMap_, curacaoAsyncContext);
 
         final Callable<Object> callable = getRequestCallableForContext(ctx);
         final FutureCallback<Object> callback = getResponseCallbackForContext(ctx);
 
         final long asyncContextTimeoutMs = CuracaoConfig.getAsyncContextTimeoutMs();
         asyncContext.setTimeout(asyncContextTimeoutMs);
-        asyncContext.addListener(new CuracaoJakartaAsyncListener(ctx, callback));
+        // Note the async listener releases the request from the tracker (and the context back to the pool, if
+        // any) once the async context completes.
+        asyncContext.addListener(new CuracaoJakartaAsyncListener(ctx, callback, requestTracker, contextPool));
+
+        // A pooled context can't be recycled until the response callback, and so the controller, is done with it.
+        final FutureCallback<Object> responseCallback =
+                (contextPool != null) ? contextPool.releaseAfter(ctx, callback) : callback;
+        // If enabled, and the request has a body the controller method wants buffered, read it without blocking
+        // first; the request is then handed off to the thread pool once the entire body has arrived.
+        if (readBodyNonBlocking_ && readBodyNonBlocking(request, asyncContext, ctx, callable, responseCallback)) {
+            return;
+        }
+        dispatch(callable, responseCallback);
+    }
+
+    private boolean readBodyNonBlocking(
+            final ServletRequest request,
+            final AsyncContext asyncContext,
+            final CuracaoContext ctx,
+            final Callable<Object> callable,
+            final FutureCallback<Object> callback) throws IOException {
+        final CuracaoInvokable invokable;
+        try {
+            // Attaches the routed invokable to the context, so the request isn't routed again once processed.
+            invokable = CuracaoControllerInvoker.route(ctx);
+        } catch (final Exception e) {
+            // The request could not be routed; it will fail just the same once processed.
+            return false;
+        }
+        // An encoded body is left to the mappers to decode (and so buffer) as they read it, on the thread pool.
+        final MapperTable mapperTable = coreObjectMap_.mapperTable_;
+        if (!invokable.requiresRequestBody(mapperTable) || !hasBody(request) || isEncoded(request)) {
+            return false;
+        }
+        final RequestBodyBuffer buffer;
+        try {
+            // Never waits on the request body memory budget, as this is a container thread; fails fast instead.
+            buffer = RequestBodyBuffer.forNonBlockingRead(request.getContentLengthLong(),
+                    invokable.getMaxRequestBodySizeInBytes(mapperTable));
+        } catch (final CuracaoException | IOException e) {
+            // The Content-Length alone is over the limit, the request body memory budget is exhausted, or a spill
+            // file for the body could not be created; no point in reading any of it.
+            dispatch(() -> {
+                throw e;
+            }, callback);
+            return true;
+        }
+        final ServletInputStream input = request.getInputStream();
+        final CuracaoJakartaReadListener readListener = new CuracaoJakartaReadListener(ctx, input, buffer, callable,
+                c -> dispatch(c, callback));
+        // Releases the body if the async context times out, or otherwise ends, before all of it has arrived.
+        asyncContext.addListener(readListener);
+        input.setReadListener(readListener);
+        return true;
+    }
 
-        final ListenableFuture<Object> future = coreObjectMap_.executorService_.submit(callable);
+    private void dispatch(
+            final Callable<Object> callable,
+            final FutureCallback<Object> callback) {
+        final ListenableFuture<Object> future;
+        try {
+            future = coreObjectMap_.executorService_.submit(callable);
+        } catch (final RejectedExecutionException e) {
+            // The thread pool is shutting down (or full); fail the request right away instead of leaving it to
+            // the async context timeout.
+            callback.onFailure(e);
+            return;
+        }
         Futures.addCallback(future, callback, coreObjectMap_.executorService_);
     }
 
+    private static boolean hasBody(
+            final ServletRequest request) {
+        final long contentLength = request.getContentLengthLong();
+        if (contentLength > 0L) {
+            return true;
+        }
+        // No Content-Length; the body, if any, is chunked.
+        return contentLength < 0L && request instanceof HttpServletRequest
+                && ((HttpServletRequest) request).getHeader(TRANSFER_ENCODING) != null;
+    }
+
+    private static boolean isEncoded(
+            final ServletRequest request) {
+        return request instanceof HttpServletRequest
+                && RequestBodyDecoder.isEncoded(((HttpServletRequest) request).getHeader(CONTENT_ENCODING));
+    }
+
     /**
      * Override if needed.
      * <p>
@@ -38,9 +38,17 @@ public final class JakartaAsyncContext implements AsyncContext {
 
     private final jakarta.servlet.AsyncContext delegate_;
 
+    /**
+     * The request and response wrappers, created once per async context instead of once per call.
+     */
+    private final HttpRequest request_;
+    private final HttpResponse response_;
+
     public JakartaAsyncContext(
             final jakarta.servlet.AsyncContext delegate) {
         delegate_ = checkNotNull(delegate, "Async context delegate cannot be null.");
+        request_ = new JakartaHttpRequest((HttpServletRequest) delegate_.getRequest());
+        response_ = new JakartaHttpResponse((HttpServletResponse) delegate_.getResponse());
     }
 
     @Override
@@ -50,12 +58,12 @@ public final class JakartaAsyncContext implements AsyncContext {
 
     @Override
     public HttpRequest getRequest() {
-        return new JakartaHttpRequest((HttpServletRequest) delegate_.getRequest());
+        return request_;
     }
 
     @Override
     public HttpResponse getResponse() {
-        return new JakartaHttpResponse((HttpServletResponse) delegate_.getResponse());
+        return response_;
     }
 
     @Override
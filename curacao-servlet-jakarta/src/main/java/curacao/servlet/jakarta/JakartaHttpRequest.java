@@ -27,6 +27,9 @@
 package curacao.servlet.jakarta;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Maps;
 import curacao.core.servlet.HttpCookie;
 import curacao.core.servlet.HttpRequest;
 import jakarta.servlet.http.Cookie;
@@ -35,8 +38,13 @@ import org.apache.commons.lang3.ArrayUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -44,6 +52,15 @@ public final class JakartaHttpRequest implements HttpRequest {
 
     private final jakarta.servlet.http.HttpServletRequest delegate_;
 
+    // Request scoped views over the headers and cookies, each built lazily at most once for the life of the
+    // request, and shared by everyone that asks. The views are immutable, so racing to build one is harmless; the
+    // loser's copy is simply discarded.
+
+    private List<String> headerNames_;
+    private Map<String, List<String>> headers_;
+    private List<HttpCookie> cookies_;
+    private Map<String, HttpCookie> cookiesByName_;
+
     public JakartaHttpRequest(
             final jakarta.servlet.http.HttpServletRequest delegate) {
         delegate_ = checkNotNull(delegate, "Servlet request delegate cannot be null.");
@@ -67,27 +84,31 @@ public final class JakartaHttpRequest implements HttpRequest {
 
     @Override
     public List<String> getHeaderNames() {
-        final ImmutableList.Builder<String> headerNamesBuilder = ImmutableList.builder();
+        List<String> headerNames = headerNames_;
+        if (headerNames == null) {
+            final ImmutableList.Builder<String> headerNamesBuilder = ImmutableList.builder();
 
-        final Enumeration<String> headerNames = delegate_.getHeaderNames();
-        while (headerNames != null && headerNames.hasMoreElements()) {
-            headerNamesBuilder.add(headerNames.nextElement());
-        }
+            final Enumeration<String> names = delegate_.getHeaderNames();
+            while (names != null && names.hasMoreElements()) {
+                headerNamesBuilder.add(names.nextElement());
+            }
 
-        return headerNamesBuilder.build();
+            headerNames = headerNamesBuilder.build();
+            headerNames_ = headerNames;
+        }
+        return headerNames;
     }
 
     @Override
     public List<String> getHeaders(
             final String name) {
-        final ImmutableList.Builder<String> headersBuilder = ImmutableList.builder();
-
-        final Enumeration<String> headers = delegate_.getHeaders(name);
-        while (headers != null && headers.hasMoreElements()) {
-            headersBuilder.add(headers.nextElement());
-        }
+        final List<String> headers = getHeaderTable().get(name);
+        return (headers != null) ? headers : ImmutableList.of();
+    }
 
-        return headersBuilder.build();
+    @Override
+    public Map<String, Collection<String>> getHeaders() {
+        return Collections.unmodifiableMap(getHeaderTable());
     }
 
     @Override
@@ -124,14 +145,33 @@ public final class JakartaHttpRequest implements HttpRequest {
 
     @Override
     public List<HttpCookie> getCookies() {
-        final Cookie[] cookies = delegate_.getCookies();
-        if (ArrayUtils.isEmpty(cookies)) {
-            return ImmutableList.of();
+        List<HttpCookie> cookies = cookies_;
+        if (cookies == null) {
+            final Cookie[] delegateCookies = delegate_.getCookies();
+            cookies = ArrayUtils.isEmpty(delegateCookies)
+                    ? ImmutableList.of()
+                    : Arrays.stream(delegateCookies)
+                            .map(JakartaHttpCookie::new)
+                            .collect(ImmutableList.toImmutableList());
+            cookies_ = cookies;
         }
+        return cookies;
+    }
 
-        return Arrays.stream(cookies)
-                .map(JakartaHttpCookie::new)
-                .collect(ImmutableList.toImmutableList());
+    @Override
+    public HttpCookie getCookie(
+            final String name) {
+        Map<String, HttpCookie> cookiesByName = cookiesByName_;
+        if (cookiesByName == null) {
+            final Map<String, HttpCookie> byName = Maps.newLinkedHashMap();
+            for (final HttpCookie cookie : getCookies()) {
+                // The first cookie by any given name wins, as with a linear scan.
+                byName.putIfAbsent(cookie.getName(), cookie);
+            }
+            cookiesByName = ImmutableMap.copyOf(byName);
+            cookiesByName_ = cookiesByName;
+        }
+        return cookiesByName.get(name);
     }
 
     @Override
@@ -154,4 +194,25 @@ public final class JakartaHttpRequest implements HttpRequest {
         return delegate_.getInputStream();
     }
 
+    private Map<String, List<String>> getHeaderTable() {
+        Map<String, List<String>> headers = headers_;
+        if (headers == null) {
+            // Header names are case-insensitive.
+            final SortedMap<String, List<String>> table = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (final String headerName : getHeaderNames()) {
+                final ImmutableList.Builder<String> headersBuilder = ImmutableList.builder();
+
+                final Enumeration<String> values = delegate_.getHeaders(headerName);
+                while (values != null && values.hasMoreElements()) {
+                    headersBuilder.add(values.nextElement());
+                }
+
+                table.put(headerName, headersBuilder.build());
+            }
+            headers = ImmutableSortedMap.copyOfSorted(table);
+            headers_ = headers;
+        }
+        return headers;
+    }
+
 }
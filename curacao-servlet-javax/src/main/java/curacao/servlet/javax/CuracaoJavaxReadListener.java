@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.servlet.javax;
+
+import curacao.context.CuracaoContext;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads the request body into memory as the Servlet container signals that more of it can be read without
+ * blocking, and only then hands the request off to the Curacao thread pool, with the buffered body attached to
+ * the context for the request body mappers to pick up.
+ * <p>
+ * If the body can't be read (e.g., the client disconnected, or the body is too large), the request is still
+ * handed off to the thread pool, but with a callable that fails with the cause; the response callback turns it
+ * into an error response as usual.
+ * <p>
+ * The listener is also registered with the async context: if the context times out, fails, or completes before
+ * the entire body has arrived, the partially read body is released, and the request is still handed off to the
+ * thread pool with a failing callable. The response has already been written by then, but running the response
+ * callback is what returns a pooled context to its pool.
+ */
+public final class CuracaoJavaxReadListener implements ReadListener, AsyncListener {
+
+    private final CuracaoContext ctx_;
+
+    private final ServletInputStream input_;
+
+    private final RequestBodyBuffer buffer_;
+
+    private final Callable<Object> callable_;
+
+    /**
+     * Submits the given callable to the thread pool.
+     */
+    private final Consumer<Callable<Object>> dispatcher_;
+
+    /**
+     * Set once the request has been handed off, guards against handing it off twice. The container never invokes
+     * the read callbacks concurrently, but the async context callbacks may arrive on another thread; guarded by
+     * this listener's monitor.
+     */
+    private boolean dispatched_ = false;
+
+    public CuracaoJavaxReadListener(
+            final CuracaoContext ctx,
+            final ServletInputStream input,
+            final RequestBodyBuffer buffer,
+            final Callable<Object> callable,
+            final Consumer<Callable<Object>> dispatcher) {
+        ctx_ = checkNotNull(ctx, "Curacao context cannot be null.");
+        input_ = checkNotNull(input, "Servlet input stream cannot be null.");
+        buffer_ = checkNotNull(buffer, "Request body buffer cannot be null.");
+        callable_ = checkNotNull(callable, "Request callable cannot be null.");
+        dispatcher_ = checkNotNull(dispatcher, "Dispatcher cannot be null.");
+    }
+
+    @Override
+    public synchronized void onDataAvailable() throws IOException {
+        try {
+            // Read until the container says a read would block; it calls back once more data has arrived.
+            while (!dispatched_ && input_.isReady() && !input_.isFinished()) {
+                if (buffer_.readFrom(input_) < 0) {
+                    break;
+                }
+            }
+        } catch (final Exception e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public synchronized void onAllDataRead() throws IOException {
+        if (dispatched_) {
+            return;
+        }
+        dispatched_ = true;
+        CuracaoContext.Extensions.setBodyBuffer(ctx_, buffer_);
+        dispatcher_.accept(callable_);
+    }
+
+    @Override
+    public void onError(
+            final Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onComplete(
+            final AsyncEvent event) throws IOException {
+        fail(new IOException("Async context completed before request body was read: " + ctx_));
+    }
+
+    @Override
+    public void onTimeout(
+            final AsyncEvent event) throws IOException {
+        fail(new IOException("Async context timed out before request body was read: " + ctx_));
+    }
+
+    @Override
+    public void onError(
+            final AsyncEvent event) throws IOException {
+        fail(new IOException("Async context error before request body was read: " + ctx_, event.getThrowable()));
+    }
+
+    @Override
+    public void onStartAsync(
+            final AsyncEvent event) throws IOException {
+        // No-op
+    }
+
+    private synchronized void fail(
+            final Throwable t) {
+        if (dispatched_) {
+            return;
+        }
+        dispatched_ = true;
+        // Never attached to the context, so the context won't delete the spill file, if any.
+        buffer_.close();
+        dispatcher_.accept(() -> {
+            if (t instanceof Exception) {
+                throw (Exception) t;
+            } else if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IOException("Failed to read request body: " + ctx_, t);
+        });
+    }
+
+}
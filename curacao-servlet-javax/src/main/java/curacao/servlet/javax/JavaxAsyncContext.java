@@ -39,9 +39,17 @@ public final class JavaxAsyncContext implements AsyncContext {
 
     private final javax.servlet.AsyncContext delegate_;
 
+    /**
+     * The request and response wrappers, created once per async context instead of once per call.
+     */
+    private final HttpRequest request_;
+    private final HttpResponse response_;
+
     public JavaxAsyncContext(
             final javax.servlet.AsyncContext delegate) {
         delegate_ = checkNotNull(delegate, "Async context delegate cannot be null.");
+        request_ = new JavaxHttpRequest((HttpServletRequest) delegate_.getRequest());
+        response_ = new JavaxHttpResponse((HttpServletResponse) delegate_.getResponse());
     }
 
     @Override
@@ -51,12 +59,12 @@ public final class JavaxAsyncContext implements AsyncContext {
 
     @Override
     public HttpRequest getRequest() {
-        return new JavaxHttpRequest((HttpServletRequest) delegate_.getRequest());
+        return request_;
     }
 
     @Override
     public HttpResponse getResponse() {
-        return new JavaxHttpResponse((HttpServletResponse) delegate_.getResponse());
+        return response_;
     }
 
     @Override
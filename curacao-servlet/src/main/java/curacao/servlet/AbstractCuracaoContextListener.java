@@ -29,17 +29,43 @@ package curacao.servlet;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import curacao.components.ComponentTable;
 import curacao.core.CuracaoCoreObjectMap;
+import curacao.exceptions.CuracaoException;
 import curacao.mappers.MapperTable;
 import curacao.mappers.request.RequestMappingTable;
+import curacao.util.concurrent.RingBufferExecutorService;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getDrainTimeoutMs;
+import static curacao.CuracaoConfig.getThreadPoolFairMaxActiveKeys;
 import static curacao.CuracaoConfig.getThreadPoolNameFormat;
+import static curacao.CuracaoConfig.getThreadPoolPriorityMaxQueueWaitMs;
+import static curacao.CuracaoConfig.getThreadPoolRingBufferMaxSubmitWaitMs;
+import static curacao.CuracaoConfig.getThreadPoolRingBufferSize;
+import static curacao.CuracaoConfig.getThreadPoolRingBufferWaitStrategy;
+import static curacao.CuracaoConfig.getThreadPoolShards;
 import static curacao.CuracaoConfig.getThreadPoolSize;
+import static curacao.CuracaoConfig.getThreadPoolType;
 import static curacao.core.CuracaoCoreObjectMap.CONTEXT_KEY_CORE_OBJECT_MAP;
+import static curacao.util.AsyncExecutorServiceFactory.createNewFairQueueListeningExecutorService;
 import static curacao.util.AsyncExecutorServiceFactory.createNewListeningExecutorService;
+import static curacao.util.AsyncExecutorServiceFactory.createNewPriorityListeningExecutorService;
+import static curacao.util.AsyncExecutorServiceFactory.createNewRingBufferListeningExecutorService;
+import static curacao.util.AsyncExecutorServiceFactory.createNewShardedListeningExecutorService;
+import static org.slf4j.LoggerFactory.getLogger;
 
 public abstract class AbstractCuracaoContextListener {
 
+    private static final Logger LOG = getLogger(AbstractCuracaoContextListener.class);
+
+    private static final String THREAD_POOL_TYPE_FIXED = "fixed";
+    private static final String THREAD_POOL_TYPE_SHARDED = "sharded";
+    private static final String THREAD_POOL_TYPE_RING_BUFFER = "ring-buffer";
+    private static final String THREAD_POOL_TYPE_PRIORITY = "priority";
+    private static final String THREAD_POOL_TYPE_FAIR = "fair";
+
     /**
      * A non-final, locally cached copy of the context global core object map.
      */
@@ -50,10 +76,7 @@ public abstract class AbstractCuracaoContextListener {
         checkNotNull(curacaoServletContext, "Curacao servlet context cannot be null.");
 
         // The context global thread pool.
-        final int threadPoolSize = getThreadPoolSize();
-        final String threadPoolNameFormat = getThreadPoolNameFormat();
-        final ListeningExecutorService executorService =
-                createNewListeningExecutorService(threadPoolSize, threadPoolNameFormat);
+        final ListeningExecutorService executorService = createExecutorService();
 
         // Core components: component mapping table, routing table, response
         // type mapping table, and method argument mapping table.
@@ -81,13 +104,59 @@ public abstract class AbstractCuracaoContextListener {
         // Only attempt to shutdown the thread pool and destroy components
         // if said entities are already initialized and non-null.
         if (coreObjectMap_ != null) {
-            if (coreObjectMap_.executorService_ != null) {
-                coreObjectMap_.executorService_.shutdown();
-            }
-            if (coreObjectMap_.componentTable_ != null) {
-                coreObjectMap_.componentTable_.destroyAll();
+            final long drainTimeoutMs = getDrainTimeoutMs();
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+            try {
+                // Turn away new requests, and give the requests still in flight a chance to complete before
+                // pulling the thread pool and components out from underneath them.
+                if (drainTimeoutMs > 0L) {
+                    coreObjectMap_.requestTracker_.drain(drainTimeoutMs, TimeUnit.MILLISECONDS);
+                }
+                if (coreObjectMap_.executorService_ != null) {
+                    coreObjectMap_.executorService_.shutdown();
+                    // Anything left in the pool (e.g., callbacks for requests that timed out) gets whatever is
+                    // left of the drain deadline to finish.
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos > 0L && !coreObjectMap_.executorService_.awaitTermination(remainingNanos,
+                            TimeUnit.NANOSECONDS)) {
+                        LOG.warn("Thread pool did not terminate within drain timeout (drainTimeoutMs={})",
+                                drainTimeoutMs);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                LOG.warn("Interrupted while draining context, destroying components anyway.", e);
+                Thread.currentThread().interrupt();
+            } finally {
+                if (coreObjectMap_.componentTable_ != null) {
+                    coreObjectMap_.componentTable_.destroyAll();
+                }
             }
         }
     }
 
+    private static ListeningExecutorService createExecutorService() {
+        final int threadPoolSize = getThreadPoolSize();
+        final String threadPoolNameFormat = getThreadPoolNameFormat();
+        final String threadPoolType = getThreadPoolType();
+        switch (threadPoolType) {
+            case THREAD_POOL_TYPE_FIXED:
+                return createNewListeningExecutorService(threadPoolSize, threadPoolNameFormat);
+            case THREAD_POOL_TYPE_SHARDED:
+                return createNewShardedListeningExecutorService(threadPoolSize, getThreadPoolShards(),
+                        threadPoolNameFormat);
+            case THREAD_POOL_TYPE_RING_BUFFER:
+                return createNewRingBufferListeningExecutorService(threadPoolSize, getThreadPoolRingBufferSize(),
+                        RingBufferExecutorService.WaitStrategy.fromString(getThreadPoolRingBufferWaitStrategy()),
+                        getThreadPoolRingBufferMaxSubmitWaitMs(), threadPoolNameFormat);
+            case THREAD_POOL_TYPE_PRIORITY:
+                return createNewPriorityListeningExecutorService(threadPoolSize,
+                        getThreadPoolPriorityMaxQueueWaitMs(), threadPoolNameFormat);
+            case THREAD_POOL_TYPE_FAIR:
+                return createNewFairQueueListeningExecutorService(threadPoolSize,
+                        getThreadPoolFairMaxActiveKeys(), threadPoolNameFormat);
+            default:
+                throw new CuracaoException("Unknown thread pool type: " + threadPoolType);
+        }
+    }
+
 }
@@ -32,6 +32,7 @@ import com.typesafe.config.ConfigFactory;
 import curacao.exceptions.CuracaoException;
 import org.slf4j.Logger;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -46,16 +47,47 @@ public final class CuracaoConfig {
 
     private static final String ASYNC_CONTEXT_TIMEOUT = "async-context-timeout";
 
+    private static final String DRAIN_TIMEOUT = "drain-timeout";
+
+    private static final String CONTEXT_POOL_SIZE = "context-pool-size";
+
+    private static final String COALESCE_CREDENTIAL_HEADERS = "coalesce.credential-headers";
+
     private static final String THREAD_POOL = "thread-pool";
 
     private static final String SIZE = "size";
     private static final String NAME_FORMAT = "name-format";
+    private static final String TYPE = "type";
+    private static final String SHARDS = "shards";
+    private static final String RING_BUFFER_SIZE = "ring-buffer.size";
+    private static final String RING_BUFFER_WAIT_STRATEGY = "ring-buffer.wait-strategy";
+    private static final String RING_BUFFER_MAX_SUBMIT_WAIT = "ring-buffer.max-submit-wait";
+    private static final String PRIORITY_MAX_QUEUE_WAIT = "priority.max-queue-wait";
+    private static final String FAIR_MAX_ACTIVE_KEYS = "fair.max-active-keys";
 
     private static final String MAPPERS_REQUEST = "mappers.request";
     private static final String MAPPERS_RESPONSE = "mappers.response";
 
     private static final String DEFAULT_MAX_REQUEST_BODY_SIZE = "max-request-body-size";
     private static final String DEFAULT_CHAR_ENCODING_IF_NOT_SPECIFIED = "default-character-encoding-if-not-specified";
+    private static final String MAX_FORM_FIELDS = "max-form-fields";
+    private static final String MAX_FORM_FIELD_LENGTH = "max-form-field-length";
+    private static final String READ_BODY_NON_BLOCKING = "read-body-non-blocking";
+    private static final String BODY_BUFFER_POOL_MAX_BUFFERS = "body-buffer-pool.max-buffers";
+    private static final String BODY_BUFFER_POOL_MAX_BUFFER_SIZE = "body-buffer-pool.max-buffer-size";
+    private static final String BODY_SPILL_THRESHOLD = "body-spill.threshold";
+    private static final String BODY_SPILL_DIRECTORY = "body-spill.directory";
+    private static final String BODY_MEMORY_BUDGET_MAX_SIZE = "body-memory-budget.max-size";
+    private static final String BODY_MEMORY_BUDGET_MAX_WAIT = "body-memory-budget.max-wait";
+    private static final String BODY_DECOMPRESSION_ENABLED = "body-decompression.enabled";
+    private static final String BODY_DECOMPRESSION_MAX_DECODED_SIZE = "body-decompression.max-decoded-size";
+    private static final String BODY_DECOMPRESSION_INFLATER_POOL_SIZE = "body-decompression.inflater-pool-size";
+    private static final String MULTIPART_MAX_PARTS = "multipart.max-parts";
+    private static final String MULTIPART_MAX_PART_SIZE = "multipart.max-part-size";
+    private static final String MULTIPART_MAX_TOTAL_SIZE = "multipart.max-total-size";
+    private static final String MULTIPART_MAX_PART_HEADER_SIZE = "multipart.max-part-header-size";
+
+    private static final String STREAMING_FLUSH_INTERVAL = "streaming.flush-interval";
 
     private final Config config_;
 
@@ -101,6 +133,11 @@ public final class CuracaoConfig {
         return getConfig().getInt(getBaseConfigPath(property));
     }
 
+    public static List<String> getConfigStringListProperty(
+            final String property) {
+        return getConfig().getStringList(getBaseConfigPath(property));
+    }
+
     public static long getMillisecondsConfigProperty(
             final String property) {
         return getConfig().getDuration(getBaseConfigPath(property), TimeUnit.MILLISECONDS);
@@ -138,6 +175,18 @@ public final class CuracaoConfig {
         return getMillisecondsConfigProperty(ASYNC_CONTEXT_TIMEOUT);
     }
 
+    public static long getDrainTimeoutMs() {
+        return getMillisecondsConfigProperty(DRAIN_TIMEOUT);
+    }
+
+    public static int getContextPoolSize() {
+        return getConfigIntProperty(CONTEXT_POOL_SIZE);
+    }
+
+    public static List<String> getCoalesceCredentialHeaders() {
+        return getConfigStringListProperty(COALESCE_CREDENTIAL_HEADERS);
+    }
+
     // Thread pool configurations.
 
     public static int getThreadPoolSize() {
@@ -148,6 +197,36 @@ public final class CuracaoConfig {
         return getConfigStringProperty(getThreadPoolConfigPropertyPath(NAME_FORMAT));
     }
 
+    public static String getThreadPoolType() {
+        return getConfigStringProperty(getThreadPoolConfigPropertyPath(TYPE));
+    }
+
+    public static int getThreadPoolShards() {
+        final int shards = getConfigIntProperty(getThreadPoolConfigPropertyPath(SHARDS));
+        // Zero (or less) means "one shard per available processor".
+        return (shards > 0) ? shards : Runtime.getRuntime().availableProcessors();
+    }
+
+    public static int getThreadPoolRingBufferSize() {
+        return getConfigIntProperty(getThreadPoolConfigPropertyPath(RING_BUFFER_SIZE));
+    }
+
+    public static String getThreadPoolRingBufferWaitStrategy() {
+        return getConfigStringProperty(getThreadPoolConfigPropertyPath(RING_BUFFER_WAIT_STRATEGY));
+    }
+
+    public static long getThreadPoolRingBufferMaxSubmitWaitMs() {
+        return getMillisecondsConfigProperty(getThreadPoolConfigPropertyPath(RING_BUFFER_MAX_SUBMIT_WAIT));
+    }
+
+    public static long getThreadPoolPriorityMaxQueueWaitMs() {
+        return getMillisecondsConfigProperty(getThreadPoolConfigPropertyPath(PRIORITY_MAX_QUEUE_WAIT));
+    }
+
+    public static int getThreadPoolFairMaxActiveKeys() {
+        return getConfigIntProperty(getThreadPoolConfigPropertyPath(FAIR_MAX_ACTIVE_KEYS));
+    }
+
     // Request mapper configurations.
 
     public static long getDefaultMaxRequestBodySizeInBytes() {
@@ -158,4 +237,73 @@ public final class CuracaoConfig {
         return getConfigStringProperty(getRequestMappersConfigProperty(DEFAULT_CHAR_ENCODING_IF_NOT_SPECIFIED));
     }
 
+    public static int getMaxFormFields() {
+        return getConfigIntProperty(getRequestMappersConfigProperty(MAX_FORM_FIELDS));
+    }
+
+    public static int getMaxFormFieldLengthInBytes() {
+        return Math.toIntExact(getBytesConfigProperty(getRequestMappersConfigProperty(MAX_FORM_FIELD_LENGTH)));
+    }
+
+    public static boolean getReadBodyNonBlocking() {
+        return getConfigBooleanProperty(getRequestMappersConfigProperty(READ_BODY_NON_BLOCKING));
+    }
+
+    public static int getBodyBufferPoolMaxBuffers() {
+        return getConfigIntProperty(getRequestMappersConfigProperty(BODY_BUFFER_POOL_MAX_BUFFERS));
+    }
+
+    public static long getBodyBufferPoolMaxBufferSizeInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(BODY_BUFFER_POOL_MAX_BUFFER_SIZE));
+    }
+
+    public static long getBodySpillThresholdInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(BODY_SPILL_THRESHOLD));
+    }
+
+    public static String getBodySpillDirectory() {
+        return getConfigStringProperty(getRequestMappersConfigProperty(BODY_SPILL_DIRECTORY));
+    }
+
+    public static long getBodyMemoryBudgetMaxSizeInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(BODY_MEMORY_BUDGET_MAX_SIZE));
+    }
+
+    public static long getBodyMemoryBudgetMaxWaitMs() {
+        return getMillisecondsConfigProperty(getRequestMappersConfigProperty(BODY_MEMORY_BUDGET_MAX_WAIT));
+    }
+
+    public static boolean getBodyDecompressionEnabled() {
+        return getConfigBooleanProperty(getRequestMappersConfigProperty(BODY_DECOMPRESSION_ENABLED));
+    }
+
+    public static long getBodyDecompressionMaxDecodedSizeInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(BODY_DECOMPRESSION_MAX_DECODED_SIZE));
+    }
+
+    public static int getBodyDecompressionInflaterPoolSize() {
+        return getConfigIntProperty(getRequestMappersConfigProperty(BODY_DECOMPRESSION_INFLATER_POOL_SIZE));
+    }
+
+    public static int getMultipartMaxParts() {
+        return getConfigIntProperty(getRequestMappersConfigProperty(MULTIPART_MAX_PARTS));
+    }
+
+    public static long getMultipartMaxPartSizeInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(MULTIPART_MAX_PART_SIZE));
+    }
+
+    public static long getMultipartMaxTotalSizeInBytes() {
+        return getBytesConfigProperty(getRequestMappersConfigProperty(MULTIPART_MAX_TOTAL_SIZE));
+    }
+
+    public static int getMultipartMaxPartHeaderSizeInBytes() {
+        return Math.toIntExact(
+                getBytesConfigProperty(getRequestMappersConfigProperty(MULTIPART_MAX_PART_HEADER_SIZE)));
+    }
+
+    public static int getStreamingResponseFlushInterval() {
+        return getConfigIntProperty(getResponseMappersConfigProperty(STREAMING_FLUSH_INTERVAL));
+    }
+
 }
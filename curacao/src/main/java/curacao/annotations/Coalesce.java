@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a {@link RequestMapping} annotated controller method into "single-flight" request coalescing. When
+ * identical GET or HEAD requests arrive concurrently, only the first one invokes the controller method; the rest
+ * wait for its result, which is then rendered to each waiting response independently. Requests are identical
+ * when they share the same method, scheme, host, path, query string, and values of the {@link #headers()} named
+ * here.
+ * <p>
+ * Note the result of the controller method is shared by every coalesced request, so it must be safe to render
+ * more than once (e.g., not an entity backed by a one-shot input stream). Request filters still run for every
+ * request, before any coalescing takes place.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    /**
+     * The names of request headers that are part of the coalescing key, in addition to the method, scheme, host,
+     * path and query string. Requests that carry credentials (any of the configured credential headers, by default
+     * an Authorization, Proxy-Authorization or Cookie header) are never coalesced unless that header is named here,
+     * so one client never sees a result rendered for another.
+     */
+    String[] headers() default {};
+
+    /**
+     * The longest time, in milliseconds, a coalesced request will wait for the result of the request it was
+     * coalesced with. Once elapsed, the waiting request gives up and invokes the controller method itself.
+     * <p>
+     * Note a waiting request blocks the request handler thread it runs on for as long as it waits, so a slow
+     * controller method under a burst of identical requests can tie up that many threads of the pool for up to
+     * this long; keep it well under the time the method takes to time out.
+     */
+    long maxWaitMs() default 5000L;
+
+}
@@ -74,6 +74,17 @@ public @interface RequestMapping {
 
     }
 
+    /**
+     * The relative priority of requests routed to a controller method. Only honored when the request handler
+     * thread pool is priority-aware; when the pool is saturated, higher priority requests are serviced ahead of
+     * lower priority ones. Declared in ascending order of priority.
+     */
+    enum Priority {
+
+        LOW, NORMAL, HIGH;
+
+    }
+
     String value();
 
     // https://github.com/markkolich/curacao/issues/2
@@ -85,4 +96,6 @@ public @interface RequestMapping {
 
     Class<? extends CuracaoRequestFilter>[] filters() default {};
 
+    Priority priority() default Priority.NORMAL;
+
 }
@@ -36,20 +36,32 @@ import curacao.core.servlet.ServletContext;
 import curacao.mappers.MapperTable;
 import curacao.mappers.request.RequestMappingTable;
 import curacao.mappers.request.matchers.CuracaoPathMatcher;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.multipart.MultipartRequest;
+import curacao.util.http.FormParameters;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 public interface CuracaoContext extends Closeable {
 
+    /**
+     * Accessors for the state Curacao itself attaches to a context. On a {@link CuracaoRequestContext} these
+     * are backed by typed fields; on any other context implementation, by its properties.
+     */
     class Extensions {
 
         private static final String INVOKABLE_KEY = "curacao.invokable";
         private static final String PATH_WITHIN_APPLICATION_KEY = "curacao.path-within-application";
         private static final String PATH_VARIABLES_KEY = "curacao.path-variables";
         private static final String REQUEST_BODY_KEY = "curacao.request-body";
+        private static final String REQUEST_BODY_BUFFER_KEY = "curacao.request-body-buffer";
+        private static final String REQUEST_BODY_PARAMETERS_KEY = "curacao.request-body-parameters";
+        private static final String MULTIPART_REQUEST_KEY = "curacao.multipart-request";
         private static final String COMPONENT_TABLE_KEY = "curacao.component-table";
         private static final String REQUEST_MAPPING_TABLE_KEY = "curacao.request-mapping-table";
         private static final String MAPPER_TABLE_KEY = "curacao.mapper-table";
@@ -65,6 +77,9 @@ public interface CuracaoContext extends Closeable {
         @Nullable
         public static CuracaoInvokable getInvokable(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).invokable_;
+            }
             return context.getProperty(INVOKABLE_KEY);
         }
 
@@ -74,7 +89,11 @@ public interface CuracaoContext extends Closeable {
         public static void setInvokable(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final CuracaoInvokable invokable) {
-            context.setProperty(INVOKABLE_KEY, invokable);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).invokable_ = invokable;
+            } else {
+                context.setProperty(INVOKABLE_KEY, invokable);
+            }
         }
 
         /**
@@ -85,6 +104,9 @@ public interface CuracaoContext extends Closeable {
         @Nullable
         public static String getPathWithinApplication(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).pathWithinApplication_;
+            }
             return context.getProperty(PATH_WITHIN_APPLICATION_KEY);
         }
 
@@ -96,7 +118,11 @@ public interface CuracaoContext extends Closeable {
         public static void setPathWithinApplication(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final String path) {
-            context.setProperty(PATH_WITHIN_APPLICATION_KEY, path);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).pathWithinApplication_ = path;
+            } else {
+                context.setProperty(PATH_WITHIN_APPLICATION_KEY, path);
+            }
         }
 
         /**
@@ -109,6 +135,9 @@ public interface CuracaoContext extends Closeable {
         @Nullable
         public static Map<String, String> getPathVariables(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).pathVariables_;
+            }
             return context.getProperty(PATH_VARIABLES_KEY);
         }
 
@@ -120,18 +149,39 @@ public interface CuracaoContext extends Closeable {
         public static void setPathVariables(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final Map<String, String> pathVars) {
-            context.setProperty(PATH_VARIABLES_KEY, pathVars);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).pathVariables_ = pathVars;
+            } else {
+                context.setProperty(PATH_VARIABLES_KEY, pathVars);
+            }
         }
 
         /**
-         * Get the in-memory buffered copy of the request body, if it exists.
+         * Get the in-memory buffered copy of the request body, if it exists. If the body was buffered into a
+         * pooled buffer, or spilled to a file, the returned byte[] array is a copy, made on first access, that the
+         * caller owns.
          *
          * @return the byte[] in memory buffered body, or null if no body has been buffered yet.
          */
         @Nullable
         public static byte[] getBody(
                 @Nonnull final CuracaoContext context) {
-            return context.getProperty(REQUEST_BODY_KEY);
+            if (context instanceof CuracaoRequestContext) {
+                final CuracaoRequestContext requestContext = (CuracaoRequestContext) context;
+                if (requestContext.body_ == null && requestContext.bodyBuffer_ != null) {
+                    requestContext.body_ = toByteArray(requestContext.bodyBuffer_);
+                }
+                return requestContext.body_;
+            }
+            byte[] body = context.getProperty(REQUEST_BODY_KEY);
+            if (body == null) {
+                final RequestBodyBuffer bodyBuffer = context.getProperty(REQUEST_BODY_BUFFER_KEY);
+                if (bodyBuffer != null) {
+                    body = toByteArray(bodyBuffer);
+                    context.setProperty(REQUEST_BODY_KEY, body);
+                }
+            }
+            return body;
         }
 
         /**
@@ -142,7 +192,109 @@ public interface CuracaoContext extends Closeable {
         public static void setBody(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final byte[] body) {
-            context.setProperty(REQUEST_BODY_KEY, body);
+            setBodyBuffer(context, RequestBodyBuffer.wrap(body));
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).body_ = body;
+            } else {
+                context.setProperty(REQUEST_BODY_KEY, body);
+            }
+        }
+
+        /**
+         * Get the buffer the request body has been buffered into, if it exists.
+         *
+         * @return the request body buffer, or null if no body has been buffered yet
+         */
+        @Nullable
+        public static RequestBodyBuffer getBodyBuffer(
+                @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).bodyBuffer_;
+            }
+            return context.getProperty(REQUEST_BODY_BUFFER_KEY);
+        }
+
+        /**
+         * Set the buffer the request body has been buffered into. On a {@link CuracaoRequestContext}, the buffer
+         * is closed when the context is closed, or when replaced by another.
+         *
+         * @param bodyBuffer the request body buffer
+         */
+        public static void setBodyBuffer(
+                @Nonnull final CuracaoContext context,
+                @Nonnull final RequestBodyBuffer bodyBuffer) {
+            if (context instanceof CuracaoRequestContext) {
+                final CuracaoRequestContext requestContext = (CuracaoRequestContext) context;
+                if (requestContext.bodyBuffer_ != null && requestContext.bodyBuffer_ != bodyBuffer) {
+                    requestContext.bodyBuffer_.close();
+                }
+                requestContext.bodyBuffer_ = bodyBuffer;
+                requestContext.body_ = null;
+            } else {
+                context.setProperty(REQUEST_BODY_BUFFER_KEY, bodyBuffer);
+                context.setProperty(REQUEST_BODY_KEY, null);
+            }
+        }
+
+        /**
+         * Get the parameters parsed from the buffered, form-encoded, request body, if it has been parsed.
+         *
+         * @return the parsed body parameters, or null if the body has not been parsed yet
+         */
+        @Nullable
+        public static FormParameters getBodyParameters(
+                @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).bodyParameters_;
+            }
+            return context.getProperty(REQUEST_BODY_PARAMETERS_KEY);
+        }
+
+        /**
+         * Set the parameters parsed from the buffered, form-encoded, request body, so the body need only be
+         * parsed once no matter how many parameters are pulled from it.
+         *
+         * @param bodyParameters the parsed body parameters
+         */
+        public static void setBodyParameters(
+                @Nonnull final CuracaoContext context,
+                @Nonnull final FormParameters bodyParameters) {
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).bodyParameters_ = bodyParameters;
+            } else {
+                context.setProperty(REQUEST_BODY_PARAMETERS_KEY, bodyParameters);
+            }
+        }
+
+        /**
+         * Get the multipart request body being parsed, if one has been attached.
+         *
+         * @return the multipart request, or null if none has been attached yet
+         */
+        @Nullable
+        public static MultipartRequest getMultipartRequest(
+                @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).multipartRequest_;
+            }
+            return context.getProperty(MULTIPART_REQUEST_KEY);
+        }
+
+        /**
+         * Set the multipart request body being parsed, so the body need only be parsed once no matter how many
+         * arguments ask for it. On a {@link CuracaoRequestContext}, the multipart request is closed when the
+         * context is closed.
+         *
+         * @param multipartRequest the multipart request
+         */
+        public static void setMultipartRequest(
+                @Nonnull final CuracaoContext context,
+                @Nonnull final MultipartRequest multipartRequest) {
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).multipartRequest_ = multipartRequest;
+            } else {
+                context.setProperty(MULTIPART_REQUEST_KEY, multipartRequest);
+            }
         }
 
         // Curacao internals
@@ -150,37 +302,68 @@ public interface CuracaoContext extends Closeable {
         @Nullable
         public static ComponentTable getComponentTable(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).componentTable_;
+            }
             return context.getProperty(COMPONENT_TABLE_KEY);
         }
 
         public static void setComponentTable(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final ComponentTable componentTable) {
-            context.setProperty(COMPONENT_TABLE_KEY, componentTable);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).componentTable_ = componentTable;
+            } else {
+                context.setProperty(COMPONENT_TABLE_KEY, componentTable);
+            }
         }
 
         @Nullable
         public static RequestMappingTable getRequestMappingTable(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).requestMappingTable_;
+            }
             return context.getProperty(REQUEST_MAPPING_TABLE_KEY);
         }
 
         public static void setRequestMappingTable(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final RequestMappingTable requestMappingTable) {
-            context.setProperty(REQUEST_MAPPING_TABLE_KEY, requestMappingTable);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).requestMappingTable_ = requestMappingTable;
+            } else {
+                context.setProperty(REQUEST_MAPPING_TABLE_KEY, requestMappingTable);
+            }
         }
 
         @Nullable
         public static MapperTable getMapperTable(
                 @Nonnull final CuracaoContext context) {
+            if (context instanceof CuracaoRequestContext) {
+                return ((CuracaoRequestContext) context).mapperTable_;
+            }
             return context.getProperty(MAPPER_TABLE_KEY);
         }
 
         public static void setMapperTable(
                 @Nonnull final CuracaoContext context,
                 @Nonnull final MapperTable mapperTable) {
-            context.setProperty(MAPPER_TABLE_KEY, mapperTable);
+            if (context instanceof CuracaoRequestContext) {
+                ((CuracaoRequestContext) context).mapperTable_ = mapperTable;
+            } else {
+                context.setProperty(MAPPER_TABLE_KEY, mapperTable);
+            }
+        }
+
+        private static byte[] toByteArray(
+                final RequestBodyBuffer bodyBuffer) {
+            try {
+                return bodyBuffer.toByteArray();
+            } catch (final IOException e) {
+                // Only ever thrown reading back a body that was spilled to a file.
+                throw new UncheckedIOException("Failed to read spilled request body.", e);
+            }
         }
 
     }
@@ -28,15 +28,23 @@ package curacao.context;
 
 import com.google.common.collect.Maps;
 import curacao.annotations.RequestMapping.Method;
+import curacao.components.ComponentTable;
 import curacao.core.CuracaoCoreObjectMap;
+import curacao.core.CuracaoInvokable;
 import curacao.core.servlet.AsyncContext;
 import curacao.core.servlet.HttpRequest;
 import curacao.core.servlet.HttpResponse;
 import curacao.core.servlet.ServletContext;
+import curacao.mappers.MapperTable;
+import curacao.mappers.request.RequestMappingTable;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.multipart.MultipartRequest;
+import curacao.util.http.FormParameters;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -53,33 +61,73 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * memory leaks. We use our own context object here so the consumer can attach whatever they want for the
  * lifetime of the request/response, and have some confidence that it will be GC'ed organically when Curacao
  * is done using it.
+ * <p>
+ * Curacao's own per-request state (see {@link CuracaoContext.Extensions}) lives in typed fields, so the
+ * property map is only ever allocated if the consumer attaches properties of their own. When a
+ * {@link CuracaoRequestContextPool} is in use, the context may be recycled for another request once the current
+ * request completes; consumers must not hold on to it beyond that.
  */
 public final class CuracaoRequestContext implements CuracaoContext {
 
-    private final ServletContext servletCtx_;
+    private ServletContext servletCtx_;
 
-    private final AsyncContext asyncCtx_;
-    private final HttpRequest request_;
-    private final HttpResponse response_;
-    private final Method method_;
+    private AsyncContext asyncCtx_;
+    private HttpRequest request_;
+    private HttpResponse response_;
+    private Method method_;
 
     /**
      * When this context was created, in milliseconds.
      */
-    private final long creationTime_;
+    private long creationTime_;
 
     /**
      * A set of mutable properties attached to this request context that
      * is passed from one controller method argument mapper to another.
      * This allows one argument mapper to attach properties that can then
      * be used/consumed by another argument mapper later in the processing
-     * chain.
+     * chain. Lazily allocated on first use.
+     */
+    private Map<String, Object> propertyMap_;
+
+    // Curacao internals, accessed through the context extensions.
+
+    /* default */ CuracaoInvokable invokable_;
+    /* default */ String pathWithinApplication_;
+    /* default */ Map<String, String> pathVariables_;
+    /* default */ byte[] body_;
+    /* default */ RequestBodyBuffer bodyBuffer_;
+    /* default */ FormParameters bodyParameters_;
+    /* default */ MultipartRequest multipartRequest_;
+    /* default */ ComponentTable componentTable_;
+    /* default */ RequestMappingTable requestMappingTable_;
+    /* default */ MapperTable mapperTable_;
+
+    /**
+     * The pool this context returns to once released by everything still using it, if any.
      */
-    private final Map<String, Object> propertyMap_;
+    private final CuracaoRequestContextPool pool_;
+    private final AtomicInteger references_;
 
     public CuracaoRequestContext(
             @Nonnull final CuracaoCoreObjectMap coreObjectMap,
             @Nonnull final AsyncContext asyncCtx) {
+        this(null);
+        init(coreObjectMap, asyncCtx);
+    }
+
+    /* default */ CuracaoRequestContext(
+            final CuracaoRequestContextPool pool) {
+        pool_ = pool;
+        references_ = new AtomicInteger();
+    }
+
+    /**
+     * Attaches this context to a new request.
+     */
+    /* default */ void init(
+            @Nonnull final CuracaoCoreObjectMap coreObjectMap,
+            @Nonnull final AsyncContext asyncCtx) {
         checkNotNull(coreObjectMap, "Core object map cannot be null.");
         // Probably don't need to check for null here again, but just to be safe in case the Servlet container
         // somehow violated contract and returned a null async context.
@@ -92,13 +140,10 @@ public final class CuracaoRequestContext implements CuracaoContext {
         response_ = asyncCtx_.getResponse();
         method_ = Method.fromString(request_.getMethod());
         creationTime_ = System.currentTimeMillis();
-        // NOTE: Does not need to be a concurrent map because there is only ever one context per thread.
-        // Therefore, this map should only ever be mutated by a single thread.
-        propertyMap_ = Maps.newHashMap();
 
-        Extensions.setComponentTable(this, coreObjectMap.componentTable_);
-        Extensions.setRequestMappingTable(this, coreObjectMap.requestMappingTable_);
-        Extensions.setMapperTable(this, coreObjectMap.mapperTable_);
+        componentTable_ = coreObjectMap.componentTable_;
+        requestMappingTable_ = coreObjectMap.requestMappingTable_;
+        mapperTable_ = coreObjectMap.mapperTable_;
     }
 
     @Override
@@ -140,6 +185,9 @@ public final class CuracaoRequestContext implements CuracaoContext {
     @Override
     public <T> T getProperty(
             final String key) {
+        if (propertyMap_ == null) {
+            return null;
+        }
         return (T) propertyMap_.get(key);
     }
 
@@ -147,6 +195,11 @@ public final class CuracaoRequestContext implements CuracaoContext {
     public void setProperty(
             final String key,
             final Object value) {
+        if (propertyMap_ == null) {
+            // NOTE: Does not need to be a concurrent map because there is only ever one context per thread.
+            // Therefore, this map should only ever be mutated by a single thread.
+            propertyMap_ = Maps.newHashMap();
+        }
         propertyMap_.put(key, value);
     }
 
@@ -166,7 +219,59 @@ public final class CuracaoRequestContext implements CuracaoContext {
 
     @Override
     public void close() throws IOException {
-        propertyMap_.clear();
+        clearRequestState();
+    }
+
+    private void clearRequestState() {
+        invokable_ = null;
+        pathWithinApplication_ = null;
+        pathVariables_ = null;
+        body_ = null;
+        if (bodyBuffer_ != null) {
+            // Deletes the spill file, if any, and returns the buffer to the pool, once the controller invocation
+            // has released it too.
+            bodyBuffer_.close();
+            bodyBuffer_ = null;
+        }
+        bodyParameters_ = null;
+        if (multipartRequest_ != null) {
+            // Deletes any temporary files the parts were saved to.
+            multipartRequest_.close();
+            multipartRequest_ = null;
+        }
+        if (propertyMap_ != null) {
+            propertyMap_.clear();
+        }
+    }
+
+    /**
+     * Must be called before the context is handed out, with the number of parties that will each independently
+     * release it through {@link #release()}.
+     */
+    /* default */ void retain(
+            final int references) {
+        references_.set(references);
+    }
+
+    /**
+     * Releases one reference to this context. Once the last reference is released, the context is detached from
+     * its request and returned to the pool it came from, if any.
+     */
+    /* default */ void release() {
+        if (pool_ != null && references_.decrementAndGet() == 0) {
+            clearRequestState();
+            // Don't pin the request, response, or any user properties while sitting idle in the pool.
+            servletCtx_ = null;
+            asyncCtx_ = null;
+            request_ = null;
+            response_ = null;
+            method_ = null;
+            componentTable_ = null;
+            requestMappingTable_ = null;
+            mapperTable_ = null;
+            propertyMap_ = null;
+            pool_.recycle(this);
+        }
     }
 
 }
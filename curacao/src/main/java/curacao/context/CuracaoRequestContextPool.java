@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.context;
+
+import com.google.common.util.concurrent.FutureCallback;
+import curacao.core.CuracaoCoreObjectMap;
+import curacao.core.servlet.AsyncContext;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded pool of {@link CuracaoRequestContext}'s, recycled from one request to the next.
+ * <p>
+ * A request context handed out by this pool is shared by two independent parties that finish with it in no
+ * particular order: the Servlet container, which is done once the async context has completed, and the thread
+ * pool, which is done once the response callback has run. The context is only reset and returned to the pool once
+ * both have released it; if either never does (e.g., the thread pool was shutdown), the context is simply left
+ * for the garbage collector. When the pool is empty, a new context is created; when it's full, a released
+ * context is dropped.
+ */
+public final class CuracaoRequestContextPool {
+
+    /**
+     * The Servlet container, and the response callback.
+     */
+    private static final int REFERENCES_PER_REQUEST = 2;
+
+    private final BlockingQueue<CuracaoRequestContext> pool_;
+
+    public CuracaoRequestContextPool(
+            final int maxSize) {
+        checkArgument(maxSize > 0, "Context pool max size (%s) must be > 0", maxSize);
+        pool_ = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Returns a request context attached to the given request, recycled if possible. The returned context must be
+     * released both through {@link #release(CuracaoContext)} once the async context completes, and by the callback
+     * returned from {@link #releaseAfter(CuracaoContext, FutureCallback)}.
+     */
+    @Nonnull
+    public CuracaoRequestContext acquire(
+            @Nonnull final CuracaoCoreObjectMap coreObjectMap,
+            @Nonnull final AsyncContext asyncCtx) {
+        CuracaoRequestContext ctx = pool_.poll();
+        if (ctx == null) {
+            ctx = new CuracaoRequestContext(this);
+        }
+        ctx.init(coreObjectMap, asyncCtx);
+        ctx.retain(REFERENCES_PER_REQUEST);
+        return ctx;
+    }
+
+    /**
+     * Releases one reference to the given context; a no-op for any context that didn't come from a pool.
+     */
+    public void release(
+            @Nonnull final CuracaoContext ctx) {
+        checkNotNull(ctx, "Curacao context cannot be null.");
+        if (ctx instanceof CuracaoRequestContext) {
+            ((CuracaoRequestContext) ctx).release();
+        }
+    }
+
+    /**
+     * Wraps the given response callback, such that it releases one reference to the given context after it has
+     * run, however it completes.
+     */
+    @Nonnull
+    public <T> FutureCallback<T> releaseAfter(
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final FutureCallback<T> callback) {
+        checkNotNull(ctx, "Curacao context cannot be null.");
+        checkNotNull(callback, "Future callback cannot be null.");
+        return new FutureCallback<T>() {
+            @Override
+            public void onSuccess(
+                    final T result) {
+                try {
+                    callback.onSuccess(result);
+                } finally {
+                    release(ctx);
+                }
+            }
+
+            @Override
+            public void onFailure(
+                    @Nonnull final Throwable t) {
+                try {
+                    callback.onFailure(t);
+                } finally {
+                    release(ctx);
+                }
+            }
+        };
+    }
+
+    /**
+     * Called by a released context once it has been reset.
+     */
+    /* default */ void recycle(
+            @Nonnull final CuracaoRequestContext ctx) {
+        // Drops the context on the floor if the pool is already full.
+        pool_.offer(ctx);
+    }
+
+}
@@ -26,20 +26,29 @@
 
 package curacao.core;
 
+import curacao.annotations.RequestMapping.Priority;
+import curacao.annotations.parameters.RequestBody;
+import curacao.components.ComponentTable;
 import curacao.context.CuracaoContext;
 import curacao.core.CuracaoInvokable.InvokableClassWithInstance;
 import curacao.core.servlet.AsyncContext;
 import curacao.exceptions.routing.PathNotFoundException;
+import curacao.mappers.MapperTable;
 import curacao.mappers.request.AbstractControllerArgumentMapper;
 import curacao.mappers.request.filters.CuracaoRequestFilter;
 import curacao.mappers.request.matchers.CuracaoPathMatcher;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.util.concurrent.Keyed;
+import curacao.util.concurrent.Prioritized;
 import curacao.util.helpers.UrlPathHelper;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -49,12 +58,26 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static curacao.util.reflection.CuracaoAnnotationUtils.getFirstAnnotation;
 import static org.slf4j.LoggerFactory.getLogger;
 
-public final class CuracaoControllerInvoker implements Callable<Object> {
+public final class CuracaoControllerInvoker implements Callable<Object>, Prioritized, Keyed {
 
     private static final Logger LOG = getLogger(CuracaoControllerInvoker.class);
 
     private final CuracaoContext ctx_;
 
+    /**
+     * The tenant key and weight of the request, resolved lazily, and at most once.
+     */
+    private boolean tenantResolved_ = false;
+    private String tenantKey_ = null;
+    private int tenantWeight_ = 1;
+
+    /**
+     * The request body buffer this invocation holds a reference to, if any, released once the invocation is
+     * done with it. Captured from the context before the request is processed, and again once the argument
+     * mappers are done, rather than looked up at the end, as the context lets go of the buffer once closed.
+     */
+    private RequestBodyBuffer body_ = null;
+
     public CuracaoControllerInvoker(
             @Nonnull final CuracaoContext ctx) {
         ctx_ = checkNotNull(ctx, "Curacao context cannot be null.");
@@ -62,25 +85,164 @@ public final class CuracaoControllerInvoker implements Callable<Object> {
 
     @Override
     public Object call() throws Exception {
+        try {
+            // The body may have been read, without blocking, before the request was handed off.
+            takeBodyBuffer();
+            final CuracaoInvokable invokable = route(ctx_);
+            // Invoke each of the request filters attached to the controller method invokable, in order. Any
+            // filter may throw an exception, which is totally fair and will be handled by the upper-layer.
+            for (final InvokableClassWithInstance<? extends CuracaoRequestFilter> filter : invokable.filters_) {
+                filter.instance_.filter(ctx_);
+            }
+            // If the controller method opted into request coalescing, let the coalescer decide whether this
+            // request invokes the controller method itself or waits for the result of an identical request
+            // already in flight.
+            if (invokable.coalescer_ != null) {
+                return invokable.coalescer_.coalesce(ctx_, () -> invoke(invokable));
+            }
+            return invoke(invokable);
+        } finally {
+            // The controller method is done with the request body, if any was buffered. A pooled body buffer is
+            // recycled once the request context has released it too, which may well have happened already if the
+            // request timed out while the controller method was running.
+            if (body_ != null) {
+                body_.release();
+                body_ = null;
+            }
+        }
+    }
+
+    private Object invoke(
+            final CuracaoInvokable invokable) throws Exception {
+        // Build the parameter list to be passed into the controller method via reflection.
+        final Object[] parameters = buildParameterList(invokable);
+        // The argument mappers may have buffered the request body while building the parameter list.
+        takeBodyBuffer();
+        // Reflection invoke the discovered "controller" method.
+        return invokable.method_.invoke(
+                // The controller class.
+                invokable.controller_.instance_,
+                // Method arguments/parameters.
+                parameters);
+    }
+
+    /**
+     * Captures the request body buffer attached to the context, if any, so that this invocation releases the
+     * buffer it took no matter what happens to the context in the meantime. A buffer replaced since it was
+     * captured has been closed by the context already, and is released right away.
+     */
+    private void takeBodyBuffer() {
+        final RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx_);
+        if (body == null || body == body_) {
+            return;
+        }
+        if (body_ != null) {
+            body_.release();
+        }
+        body_ = body;
+    }
+
+    /**
+     * Invoked by priority-aware thread pools only, on the Servlet container thread that is handing off the request
+     * to the pool. Routes the request (the result of which is attached to the context, and not repeated when the
+     * request is processed) and asks the registered {@link CuracaoPriorityClassifier}, if any, to classify it.
+     */
+    @Nonnull
+    @Override
+    public Priority getPriority() {
+        CuracaoInvokable invokable = null;
+        try {
+            invokable = route(ctx_);
+        } catch (final Exception e) {
+            // The request could not be routed; it will fail just the same once processed, so there's nothing
+            // to do here other than fall back to the default priority.
+            LOG.debug("Failed to route request for priority classification: {}", ctx_, e);
+        }
+        final CuracaoPriorityClassifier classifier = getComponent(CuracaoPriorityClassifier.class);
+        if (classifier != null) {
+            try {
+                final Priority priority = classifier.classify(ctx_, invokable);
+                if (priority != null) {
+                    return priority;
+                }
+            } catch (final Exception e) {
+                LOG.warn("Priority classifier failed to classify request: {}", ctx_, e);
+            }
+        }
+        return (invokable != null) ? invokable.priority_ : Priority.NORMAL;
+    }
+
+    /**
+     * Invoked by fair queuing thread pools only, on the Servlet container thread that is handing off the request
+     * to the pool. Asks the registered {@link CuracaoTenantKeyExtractor}, if any, for the tenant key of the request.
+     */
+    @Nullable
+    @Override
+    public String getKey() {
+        resolveTenant();
+        return tenantKey_;
+    }
+
+    @Override
+    public int getWeight() {
+        resolveTenant();
+        return tenantWeight_;
+    }
+
+    private void resolveTenant() {
+        if (tenantResolved_) {
+            return;
+        }
+        tenantResolved_ = true;
+        final CuracaoTenantKeyExtractor extractor = getComponent(CuracaoTenantKeyExtractor.class);
+        if (extractor == null) {
+            return;
+        }
+        try {
+            tenantKey_ = extractor.getTenantKey(ctx_.getRequest());
+            if (tenantKey_ != null) {
+                tenantWeight_ = extractor.getTenantWeight(tenantKey_);
+            }
+        } catch (final Exception e) {
+            LOG.warn("Tenant key extractor failed to extract tenant key from request: {}", ctx_, e);
+        }
+    }
+
+    /**
+     * Finds the controller method invokable that should service the request, and attaches it (and any
+     * extracted path variables) to the context. If the request was already routed, returns the invokable
+     * already attached to the context.
+     * <p>
+     * Normally invoked on a Curacao thread pool thread when the request is processed, but may be invoked earlier
+     * on the Servlet container thread if the request has to be routed before it is handed off to the pool.
+     */
+    @Nonnull
+    public static CuracaoInvokable route(
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        checkNotNull(ctx, "Curacao context cannot be null.");
+        final CuracaoInvokable routed = CuracaoContext.Extensions.getInvokable(ctx);
+        if (routed != null) {
+            return routed;
+        }
         // The path within the application represents the part of the URI
         // without the Servlet context, if any. For example, if the Servlet
         // content is "/foobar" and the incoming request was GET:/foobar/baz,
         // then this method will return just "/baz".
-        final String pathWithinApplication = UrlPathHelper.getPathWithinApplication(ctx_);
+        final String pathWithinApplication = UrlPathHelper.getPathWithinApplication(ctx);
         LOG.debug("Computed path within application context (requestUri={}, computedPath={})",
-                ctx_, pathWithinApplication);
+                ctx, pathWithinApplication);
         // Attach the path within the application to the mutable context.
-        CuracaoContext.Extensions.setPathWithinApplication(ctx_, pathWithinApplication);
+        CuracaoContext.Extensions.setPathWithinApplication(ctx, pathWithinApplication);
         // Get a list of all supported application routes based on the incoming HTTP request method.
         final List<CuracaoInvokable> candidates =
-                CuracaoContext.Extensions.getRequestMappingTable(ctx_).getRoutesByHttpMethod(ctx_.getMethod());
-        LOG.debug("Found {} controller candidates for request: {}:{}", candidates.size(), ctx_.getMethod(),
+                CuracaoContext.Extensions.getRequestMappingTable(ctx).getRoutesByHttpMethod(ctx.getMethod());
+        LOG.debug("Found {} controller candidates for request: {}:{}", candidates.size(), ctx.getMethod(),
                 pathWithinApplication);
         // Check if we found any viable candidates for the incoming HTTP request method.
         if (candidates.isEmpty()) {
             // If we didn't find any, immediately bail letting the user know this incoming HTTP request method
             // just isn't supported by the implementation.
-            throw new PathNotFoundException("Found 0 (zero) controller candidates for request: " + ctx_);
+            throw new PathNotFoundException("Found 0 (zero) controller candidates for request: " + ctx);
         }
         Pair<CuracaoInvokable, Map<String, String>> invokablePair = null;
         for (final CuracaoInvokable i : candidates) { // O(n)
@@ -88,7 +250,7 @@ public final class CuracaoControllerInvoker implements Callable<Object> {
             // Get the matcher instance from the invokable.
             final CuracaoPathMatcher matcher = i.matcher_.instance_;
             // The matcher will return 'null' if the provided pattern did not match the path within application.
-            final Map<String, String> pathVars = matcher.match(ctx_, i.mapping_, pathWithinApplication);
+            final Map<String, String> pathVars = matcher.match(ctx, i.mapping_, pathWithinApplication);
             if (pathVars != null) {
                 // Matched!
                 LOG.debug("Extracted path variables: {}", pathVars);
@@ -104,23 +266,21 @@ public final class CuracaoControllerInvoker implements Callable<Object> {
         }
         // Attach the discovered invokable to the mutable context.
         final CuracaoInvokable invokable = invokablePair.getLeft();
-        CuracaoContext.Extensions.setInvokable(ctx_, invokable);
+        CuracaoContext.Extensions.setInvokable(ctx, invokable);
         // Attach extracted path variables from the matcher to the mutable context.
         final Map<String, String> pathVars = invokablePair.getRight();
-        CuracaoContext.Extensions.setPathVariables(ctx_, pathVars);
-        // Invoke each of the request filters attached to the controller method invokable, in order. Any filter
-        // may throw an exception, which is totally fair and will be handled by the upper-layer.
-        for (final InvokableClassWithInstance<? extends CuracaoRequestFilter> filter : invokable.filters_) {
-            filter.instance_.filter(ctx_);
+        CuracaoContext.Extensions.setPathVariables(ctx, pathVars);
+        return invokable;
+    }
+
+    @Nullable
+    private <T> T getComponent(
+            final Class<T> clazz) {
+        final ComponentTable componentTable = CuracaoContext.Extensions.getComponentTable(ctx_);
+        if (componentTable == null) {
+            return null;
         }
-        // Build the parameter list to be passed into the controller method via reflection.
-        final Object[] parameters = buildParameterList(invokable);
-        // Reflection invoke the discovered "controller" method.
-        return invokable.method_.invoke(
-                // The controller class.
-                invokable.controller_.instance_,
-                // Method arguments/parameters.
-                parameters);
+        return clazz.cast(componentTable.getComponentForType(clazz));
     }
 
     /**
@@ -131,6 +291,7 @@ public final class CuracaoControllerInvoker implements Callable<Object> {
             final CuracaoInvokable invokable) throws Exception {
         // The actual method argument/parameter types, in order.
         final Class<?>[] methodParams = invokable.parameterTypes_;
+        final Type[] genericTypes = invokable.genericParameterTypes_;
         // Create a new array list with capacity to reduce unnecessary copies,
         // given we're converting this list to an array later.
         final Object[] params = new Object[methodParams.length];
@@ -162,14 +323,19 @@ public final class CuracaoControllerInvoker implements Callable<Object> {
             } else {
                 // Given a class type, find an argument mapper for it. Note that if no mappers exist for the given
                 // type, the method below will ~not~ return null, but rather an empty collection.
-                final Collection<AbstractControllerArgumentMapper<?>> mappers =
-                        CuracaoContext.Extensions.getMapperTable(ctx_).getArgumentMappersForClass(o);
+                final MapperTable mapperTable = CuracaoContext.Extensions.getMapperTable(ctx_);
+                Collection<AbstractControllerArgumentMapper<?>> mappers = mapperTable.getArgumentMappersForClass(o);
+                if (mappers.isEmpty() && first instanceof RequestBody) {
+                    // No mapper for this type specifically, but the request body may still be bound to it by a
+                    // mapper that binds the body to any type (e.g., from JSON), registered against Object.
+                    mappers = mapperTable.getArgumentMappersForClass(Object.class);
+                }
                 for (final AbstractControllerArgumentMapper<?> mapper : mappers) {
                     // Ask each mapper, in order, to resolve the argument. The first mapper to resolve (return
                     // non-null) wins. User registered mappers are called first given that they are inserted into the
                     // multi-map first before the "default" mappers, which allows consumers of this toolkit to register
                     // and override default argument mappers for foundational classes like "String", etc. if they wish.
-                    if ((toAdd = mapper.resolve(first, ctx_)) != null) {
+                    if ((toAdd = mapper.resolve(first, ctx_, genericTypes[i])) != null) {
                         break;
                     }
                 }
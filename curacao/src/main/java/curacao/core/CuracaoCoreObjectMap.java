@@ -29,6 +29,7 @@ package curacao.core;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import curacao.annotations.RequestMapping;
 import curacao.components.ComponentTable;
+import curacao.context.CuracaoRequestContextPool;
 import curacao.core.servlet.ServletContext;
 import curacao.mappers.MapperTable;
 import curacao.mappers.request.AbstractControllerArgumentMapper;
@@ -41,6 +42,7 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getContextPoolSize;
 
 /**
  * The core object map is an object that acts as a context global holder
@@ -63,6 +65,17 @@ public final class CuracaoCoreObjectMap {
     public final RequestMappingTable requestMappingTable_;
     public final MapperTable mapperTable_;
 
+    /**
+     * Tracks requests in flight, so the context can be drained gracefully on shutdown.
+     */
+    public final CuracaoRequestTracker requestTracker_;
+
+    /**
+     * Recycles request contexts from one request to the next; null if context reuse is disabled.
+     */
+    @Nullable
+    public final CuracaoRequestContextPool contextPool_;
+
     public CuracaoCoreObjectMap(
             final ServletContext servletCtx,
             final ListeningExecutorService executorService,
@@ -74,6 +87,9 @@ public final class CuracaoCoreObjectMap {
         componentTable_ = checkNotNull(componentTable, "Mapper table cannot be null.");
         requestMappingTable_ = checkNotNull(requestMappingTable, "Request mapping routing table cannot be null.");
         mapperTable_ = checkNotNull(mapperTable, "Mapper table cannot be null.");
+        requestTracker_ = new CuracaoRequestTracker();
+        final int contextPoolSize = getContextPoolSize();
+        contextPool_ = (contextPoolSize > 0) ? new CuracaoRequestContextPool(contextPoolSize) : null;
     }
 
     // Helpers
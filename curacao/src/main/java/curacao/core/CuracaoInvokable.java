@@ -29,10 +29,15 @@ package curacao.core;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import curacao.annotations.Coalesce;
 import curacao.annotations.Injectable;
+import curacao.annotations.RequestMapping.Priority;
+import curacao.annotations.parameters.RequestBody;
 import curacao.components.ComponentTable;
 import curacao.exceptions.CuracaoException;
 import curacao.exceptions.reflection.ArgumentRequiredException;
+import curacao.mappers.MapperTable;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
 import curacao.mappers.request.filters.CuracaoRequestFilter;
 import curacao.mappers.request.matchers.CuracaoPathMatcher;
 import org.apache.commons.lang3.StringUtils;
@@ -42,9 +47,13 @@ import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
+import static curacao.util.reflection.CuracaoAnnotationUtils.getFirstAnnotation;
 import static curacao.util.reflection.CuracaoReflectionUtils.getConstructorWithMostParameters;
 
 public final class CuracaoInvokable {
@@ -79,11 +88,23 @@ public final class CuracaoInvokable {
      */
     public final List<InvokableClassWithInstance<? extends CuracaoRequestFilter>> filters_;
 
+    /**
+     * The scheduling priority of requests routed to this invokable controller method.
+     */
+    public final Priority priority_;
+
     /**
      * The controller Java method itself.
      */
     public final Method method_;
 
+    /**
+     * The request coalescer attached to this invokable controller method, or null if the controller method is not
+     * annotated with {@link Coalesce}.
+     */
+    @Nullable
+    public final CuracaoRequestCoalescer coalescer_;
+
     /**
      * The arguments/parameters for the controller Java method. Will be
      * an array of length zero if the underlying Java method takes no
@@ -91,6 +112,12 @@ public final class CuracaoInvokable {
      */
     public final Class<?>[] parameterTypes_;
 
+    /**
+     * The declared, possibly generic, types of the arguments/parameters for the controller Java method, in the
+     * same order as the {@link #parameterTypes_}.
+     */
+    public final Type[] genericParameterTypes_;
+
     /**
      * The annotation collection associated with each argument/parameter of
      * the controller Java method. Will be an array of length zero if the
@@ -98,18 +125,26 @@ public final class CuracaoInvokable {
      */
     public final Annotation[][] parameterAnnotations_;
 
+    /**
+     * What the {@link RequestBody} arguments/parameters of the controller Java method need of the request body;
+     * resolved on first use, as it's up to the argument mappers that resolve them.
+     */
+    private volatile RequestBodyRequirements requestBodyRequirements_;
+
     public CuracaoInvokable(
             @Nonnull final ComponentTable componentTable,
             @Nonnull final String mapping,
             @Nonnull final InjectableComponent<?> controller,
             @Nonnull final InjectableComponent<? extends CuracaoPathMatcher> matcher,
             @Nonnull final List<InjectableComponent<? extends CuracaoRequestFilter>> filters,
+            @Nonnull final Priority priority,
             @Nonnull final Method method) {
         componentTable_ = checkNotNull(componentTable, "Component table cannot be null.");
         mapping_ = checkNotNull(mapping, "Request mapping cannot be null.");
         checkNotNull(controller, "Controller base class cannot be null.");
         checkNotNull(matcher, "Path matcher injectable cannot be null.");
         checkNotNull(filters, "Method filter injectable list cannot be null.");
+        priority_ = checkNotNull(priority, "Priority cannot be null.");
         method_ = checkNotNull(method, "Controller method cannot be null.");
 
         // Instantiate a new instance of the controller class itself.
@@ -155,10 +190,92 @@ public final class CuracaoInvokable {
             throw new CuracaoException("Failed to instantiate request filters.", e);
         }
 
+        final Coalesce coalesce = method_.getAnnotation(Coalesce.class);
+        coalescer_ = (coalesce != null) ? new CuracaoRequestCoalescer(coalesce) : null;
+
         parameterTypes_ = method_.getParameterTypes();
+        genericParameterTypes_ = method_.getGenericParameterTypes();
         parameterAnnotations_ = method_.getParameterAnnotations();
     }
 
+    /**
+     * Whether any argument/parameter of the controller Java method is annotated with {@link RequestBody}, and
+     * needs the request body to be buffered into memory; that is, unless any of the argument mappers that may
+     * resolve it reads the body as it arrives instead (see
+     * {@link AbstractControllerArgumentMapper#requiresBufferedBody(Annotation, Type)}).
+     */
+    public boolean requiresRequestBody(
+            @Nonnull final MapperTable mapperTable) {
+        return getRequestBodyRequirements(mapperTable).required_;
+    }
+
+    /**
+     * The largest request body size in bytes accepted by any {@link RequestBody} argument/parameter of the
+     * controller Java method that needs the request body to be buffered, or zero if any one of them places no
+     * limit on the request body size.
+     */
+    public long getMaxRequestBodySizeInBytes(
+            @Nonnull final MapperTable mapperTable) {
+        return getRequestBodyRequirements(mapperTable).maxSizeInBytes_;
+    }
+
+    private RequestBodyRequirements getRequestBodyRequirements(
+            final MapperTable mapperTable) {
+        RequestBodyRequirements requirements = requestBodyRequirements_;
+        if (requirements == null) {
+            // Benign race; every thread resolves the same requirements.
+            requirements = resolveRequestBodyRequirements(checkNotNull(mapperTable, "Mapper table cannot be null."));
+            requestBodyRequirements_ = requirements;
+        }
+        return requirements;
+    }
+
+    private RequestBodyRequirements resolveRequestBodyRequirements(
+            final MapperTable mapperTable) {
+        boolean requiresRequestBody = false;
+        boolean unlimitedRequestBody = false;
+        long maxRequestBodySize = 0L;
+        for (int i = 0, l = parameterAnnotations_.length; i < l; i++) {
+            // Only the first annotation on a parameter is ever considered by the argument mappers.
+            final Annotation first = getFirstAnnotation(parameterAnnotations_[i]);
+            if (first instanceof RequestBody && requiresBufferedBody(mapperTable, first, i)) {
+                requiresRequestBody = true;
+                final long maxSize = ((RequestBody) first).maxSizeInBytes();
+                final long limit = (maxSize > 0L) ? maxSize : getDefaultMaxRequestBodySizeInBytes();
+                if (limit > 0L) {
+                    maxRequestBodySize = Math.max(maxRequestBodySize, limit);
+                } else {
+                    unlimitedRequestBody = true;
+                }
+            }
+        }
+        return new RequestBodyRequirements(requiresRequestBody, (unlimitedRequestBody) ? 0L : maxRequestBodySize);
+    }
+
+    /**
+     * Whether the argument mappers that may resolve the given request body argument/parameter, looked up the same
+     * way the controller invoker does, all need the body buffered.
+     */
+    private boolean requiresBufferedBody(
+            final MapperTable mapperTable,
+            final Annotation annotation,
+            final int parameter) {
+        Collection<AbstractControllerArgumentMapper<?>> mappers =
+                mapperTable.getArgumentMappersForClass(parameterTypes_[parameter]);
+        if (mappers.isEmpty()) {
+            mappers = mapperTable.getArgumentMappersForClass(Object.class);
+        }
+        if (mappers.isEmpty()) {
+            return false;
+        }
+        for (final AbstractControllerArgumentMapper<?> mapper : mappers) {
+            if (!mapper.requiresBufferedBody(annotation, genericParameterTypes_[parameter])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return String.format("%s.%s(%s)",
@@ -249,4 +366,18 @@ public final class CuracaoInvokable {
 
     }
 
+    private static final class RequestBodyRequirements {
+
+        private final boolean required_;
+        private final long maxSizeInBytes_;
+
+        private RequestBodyRequirements(
+                final boolean required,
+                final long maxSizeInBytes) {
+            required_ = required;
+            maxSizeInBytes_ = maxSizeInBytes;
+        }
+
+    }
+
 }
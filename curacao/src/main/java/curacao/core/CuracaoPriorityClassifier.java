@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core;
+
+import curacao.annotations.Component;
+import curacao.annotations.RequestMapping;
+import curacao.annotations.RequestMapping.Priority;
+import curacao.context.CuracaoContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Assigns a scheduling priority to an incoming request, before the request is handed off to the request
+ * handler thread pool for processing. Only consulted when the thread pool is priority-aware.
+ * <p>
+ * By default, a request takes on the priority declared by the {@link RequestMapping} of the controller method it
+ * was routed to. To override that, e.g., based on a header that identifies a paid tier customer, implement this
+ * interface and annotate the implementation with {@link Component}.
+ */
+public interface CuracaoPriorityClassifier {
+
+    /**
+     * Note this method is invoked on the Servlet container thread that received the request, so it should be
+     * cheap; do not block or perform I/O here.
+     *
+     * @param ctx the context of the request to classify
+     * @param invokable the controller method the request was routed to, or null if the request could not be routed
+     * @return the priority of the request, or null to fall back to the priority declared by the route
+     */
+    @Nullable
+    Priority classify(
+            @Nonnull final CuracaoContext ctx,
+            @Nullable final CuracaoInvokable invokable) throws Exception;
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import curacao.annotations.Coalesce;
+import curacao.annotations.RequestMapping;
+import curacao.context.CuracaoContext;
+import curacao.core.servlet.HttpRequest;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getCoalesceCredentialHeaders;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Coalesces identical, concurrent, requests to a single {@link Coalesce} annotated controller method, such that
+ * only one of them (the "leader") actually invokes the method. The rest wait for, and share, its result.
+ */
+public final class CuracaoRequestCoalescer {
+
+    private static final Logger LOG = getLogger(CuracaoRequestCoalescer.class);
+
+    /**
+     * The header names that are part of the coalescing key, in declared order.
+     */
+    private final List<String> keyHeaders_;
+
+    /**
+     * The lower-cased header names that are part of the coalescing key; header names are case-insensitive.
+     */
+    private final Set<String> keyHeadersLowerCase_;
+
+    /**
+     * The configured request headers that carry credentials, less those that are part of the coalescing key; a
+     * request carrying any of these is never coalesced.
+     */
+    private final List<String> credentialHeaders_;
+
+    private final long maxWaitMs_;
+
+    /**
+     * The result of each in-flight leader request, by coalescing key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight_;
+
+    public CuracaoRequestCoalescer(
+            @Nonnull final Coalesce coalesce) {
+        this(coalesce, getCoalesceCredentialHeaders());
+    }
+
+    public CuracaoRequestCoalescer(
+            @Nonnull final Coalesce coalesce,
+            @Nonnull final List<String> credentialHeaders) {
+        checkNotNull(coalesce, "Coalesce annotation cannot be null.");
+        checkNotNull(credentialHeaders, "Credential headers cannot be null.");
+        keyHeaders_ = ImmutableList.copyOf(coalesce.headers());
+        keyHeadersLowerCase_ = Arrays.stream(coalesce.headers())
+                .map(h -> h.toLowerCase(Locale.ROOT))
+                .collect(ImmutableSet.toImmutableSet());
+        credentialHeaders_ = credentialHeaders.stream()
+                .filter(h -> !keyHeadersLowerCase_.contains(h.toLowerCase(Locale.ROOT)))
+                .collect(ImmutableList.toImmutableList());
+        maxWaitMs_ = coalesce.maxWaitMs();
+        inFlight_ = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Invokes the callable on behalf of the request, unless an identical request is already in flight, in which
+     * case waits for, and returns, its result instead. If the request isn't eligible for coalescing (not a GET or
+     * HEAD request, or carries credentials that aren't part of the key) the callable is simply invoked.
+     */
+    public Object coalesce(
+            @Nonnull final CuracaoContext ctx,
+            @Nonnull final Callable<Object> callable) throws Exception {
+        checkNotNull(ctx, "Curacao context cannot be null.");
+        checkNotNull(callable, "Callable cannot be null.");
+        final String key = getKey(ctx);
+        if (key == null) {
+            return callable.call();
+        }
+        final CompletableFuture<Object> leader = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight_.putIfAbsent(key, leader);
+        if (existing == null) {
+            return lead(key, leader, callable);
+        }
+        LOG.debug("Coalescing request with identical in-flight request: {}", key);
+        // Note this blocks the request handler thread for up to the maximum wait (see Coalesce#maxWaitMs).
+        try {
+            return existing.get(maxWaitMs_, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOG.debug("Timed out waiting for coalesced request, invoking on our own: {}", key);
+            return callable.call();
+        } catch (final ExecutionException e) {
+            // The leader failed; fail the same way it did.
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private Object lead(
+            final String key,
+            final CompletableFuture<Object> leader,
+            final Callable<Object> callable) throws Exception {
+        try {
+            final Object result = callable.call();
+            leader.complete(result);
+            return result;
+        } catch (final Exception | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Requests that arrive from here on are not "concurrent" with this one, and will lead on their own.
+            inFlight_.remove(key, leader);
+        }
+    }
+
+    /**
+     * Returns the coalescing key for the request, or null if the request must not be coalesced.
+     */
+    private String getKey(
+            final CuracaoContext ctx) {
+        final RequestMapping.Method method = ctx.getMethod();
+        if (method != RequestMapping.Method.GET && method != RequestMapping.Method.HEAD) {
+            return null;
+        }
+        final HttpRequest request = ctx.getRequest();
+        for (final String header : credentialHeaders_) {
+            if (request.getHeader(header) != null) {
+                return null;
+            }
+        }
+        // The full request URL, so that requests for the same path on different virtual hosts, or over different
+        // schemes, are never coalesced together.
+        final StringBuilder key = new StringBuilder(method.name())
+                .append(' ')
+                .append(request.getRequestURL());
+        final String query = request.getQueryString();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (final String header : keyHeaders_) {
+            key.append('\n').append(header.toLowerCase(Locale.ROOT)).append(':');
+            final List<String> values = request.getHeaders(header);
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+}
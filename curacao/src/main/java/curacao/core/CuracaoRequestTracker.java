@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Keeps track of the number of requests in flight; that is, requests that have been accepted by a Curacao
+ * dispatcher servlet but have not yet completed. On context shutdown, the tracker is "drained": new requests are
+ * turned away, and the caller waits for the requests still in flight to complete before tearing down the thread
+ * pool and any components those requests may still be using.
+ */
+public final class CuracaoRequestTracker {
+
+    private static final Logger LOG = getLogger(CuracaoRequestTracker.class);
+
+    private final AtomicInteger inFlight_;
+
+    private final ReentrantLock lock_;
+    private final Condition drained_;
+
+    private volatile boolean draining_;
+
+    private volatile long drainDurationMs_;
+
+    public CuracaoRequestTracker() {
+        inFlight_ = new AtomicInteger();
+        lock_ = new ReentrantLock();
+        drained_ = lock_.newCondition();
+        draining_ = false;
+        drainDurationMs_ = -1L;
+    }
+
+    /**
+     * Attempts to admit a new request. Every successful call must be followed by exactly one call to
+     * {@link #release()} once the request has completed.
+     *
+     * @return true if the request was admitted, or false if the tracker is draining and the request should be
+     * turned away
+     */
+    public boolean tryAcquire() {
+        if (draining_) {
+            return false;
+        }
+        inFlight_.incrementAndGet();
+        // Re-check: if draining started concurrently with the increment above, the drainer may have already seen
+        // zero requests in flight, and moved on to tear down everything this request would need.
+        if (draining_) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks a previously admitted request as complete.
+     */
+    public void release() {
+        if (inFlight_.decrementAndGet() <= 0 && draining_) {
+            lock_.lock();
+            try {
+                drained_.signalAll();
+            } finally {
+                lock_.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops admitting new requests, and waits up to the given timeout for the requests in flight to complete.
+     *
+     * @return true if all requests in flight completed within the timeout, false otherwise
+     */
+    public boolean drain(
+            final long timeout,
+            final TimeUnit unit) throws InterruptedException {
+        draining_ = true;
+        final long start = System.nanoTime();
+        long remaining = unit.toNanos(timeout);
+        lock_.lock();
+        try {
+            while (inFlight_.get() > 0 && remaining > 0L) {
+                remaining = drained_.awaitNanos(remaining);
+            }
+        } finally {
+            lock_.unlock();
+        }
+        drainDurationMs_ = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final int abandoned = inFlight_.get();
+        if (abandoned > 0) {
+            LOG.warn("Timed out draining in-flight requests (durationMs={}, abandoned={})", drainDurationMs_,
+                    abandoned);
+            return false;
+        }
+        LOG.info("Drained in-flight requests (durationMs={})", drainDurationMs_);
+        return true;
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     */
+    public int getInFlight() {
+        return inFlight_.get();
+    }
+
+    /**
+     * Returns true once the tracker has started draining, and is turning away new requests.
+     */
+    public boolean isDraining() {
+        return draining_;
+    }
+
+    /**
+     * Returns how long, in milliseconds, the last drain took, or -1 if the tracker has not been drained.
+     */
+    public long getDrainDurationMs() {
+        return drainDurationMs_;
+    }
+
+}
@@ -26,51 +26,32 @@
 
 package curacao.core;
 
-import com.google.common.collect.ImmutableMap;
-import org.slf4j.MDC;
+import curacao.core.propagation.ContextPropagators;
 
 import javax.annotation.Nonnull;
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Copies the MDC (mapped diagnostic context) from the invoking/parent thread into a thread local accessible
- * by the child thread (the wrapped runnable). This preserves the MDC across threads.
+ * Copies the thread bound context (e.g., the MDC) from the invoking/parent thread over to the child thread
+ * (the wrapped runnable), through the registered {@link curacao.core.propagation.ContextPropagator}'s. This
+ * preserves the context across threads.
  */
 public final class CuracaoRunnable implements Runnable {
 
-    private static final Map<String, String> EMPTY_IMMUTABLE_MAP = ImmutableMap.of();
-
     private final Runnable wrapped_;
 
-    private final Map<String, String> mdcContextMap_;
-
     public CuracaoRunnable(
             @Nonnull final Runnable wrapped) {
-        wrapped_ = checkNotNull(wrapped, "Wrapped runnable cannot be null.");
-        // Grab a copy of the thread local MDC (Mapped Diagnostic Context). This is used to preserve the
-        // diagnostic context across threads as Curacao requests+responses are handled by multiple threads in
-        // a pool.
-        Map<String, String> cachedContext = MDC.getCopyOfContextMap();
-        // Annoyingly, getCopyOfContextMap() returns null if no map was set. It would be *nice* if it just
-        // returned an empty map to avoid NPE's downstream, but whatever.
-        if (cachedContext == null) {
-            cachedContext = EMPTY_IMMUTABLE_MAP;
-        }
-        mdcContextMap_ = cachedContext;
+        checkNotNull(wrapped, "Wrapped runnable cannot be null.");
+        // Capture the context of the parent thread now; Curacao requests+responses are handled by multiple
+        // threads in a pool.
+        wrapped_ = ContextPropagators.propagate(wrapped);
     }
 
     @Override
     public void run() {
-        try {
-            // Set the current thread's MDC to our parent "copy", and invoke the wrapped runnable.
-            MDC.setContextMap(mdcContextMap_);
-            wrapped_.run();
-        } finally {
-            // Detach/clear the MDC from the child's thread local space.
-            MDC.clear();
-        }
+        wrapped_.run();
     }
 
 }
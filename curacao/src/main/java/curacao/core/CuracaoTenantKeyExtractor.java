@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core;
+
+import curacao.annotations.Component;
+import curacao.core.servlet.HttpRequest;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Extracts the key of the client, or tenant, that sent an incoming request; e.g., from the Authorization header
+ * or a path prefix. Only consulted when the request handler thread pool is a fair queuing pool, in which case
+ * pending requests are queued per tenant key, and the tenants are serviced round-robin so a single heavy tenant
+ * cannot crowd out everyone else. To register an extractor, implement this interface and annotate the
+ * implementation with {@link Component}.
+ */
+public interface CuracaoTenantKeyExtractor {
+
+    /**
+     * Note this method is invoked on the Servlet container thread that received the request, so it should be
+     * cheap; do not block or perform I/O here.
+     *
+     * @param request the incoming request
+     * @return the key of the tenant that sent the request, or null to queue the request with all other requests
+     * that don't belong to any tenant in particular
+     */
+    @Nullable
+    String getTenantKey(
+            @Nonnull final HttpRequest request) throws Exception;
+
+    /**
+     * Returns the relative weight of a tenant. A tenant with a weight of 2 is given twice the share of the pool
+     * as a tenant with a weight of 1, when both have requests pending. Defaults to 1 for every tenant.
+     *
+     * @param tenantKey a tenant key, as extracted by {@link #getTenantKey(HttpRequest)}
+     * @return the relative weight of the tenant, must be greater than zero
+     */
+    default int getTenantWeight(
+            @Nonnull final String tenantKey) {
+        return 1;
+    }
+
+}
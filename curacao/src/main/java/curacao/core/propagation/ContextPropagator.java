@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core.propagation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Carries some thread bound context (e.g., the MDC, a trace context, or any other thread local) from the thread
+ * submitting a task to the thread pool over to the pool thread that eventually runs it.
+ * <p>
+ * Propagators are invoked on the submitting thread, once per task, and should capture whatever context they
+ * care about right then. When there's nothing to carry over, a propagator should hand back the given task as-is
+ * so that the common case costs nothing, unless the pool thread still needs cleaning up after an earlier task
+ * (as the MDC does). Implementations must be thread safe.
+ */
+public interface ContextPropagator {
+
+    /**
+     * Captures the relevant context of the calling thread, and returns a runnable that applies the captured
+     * context around the given task, and cleans up after it, on whatever thread the runnable ends up on.
+     *
+     * @param task the task to be run on a pool thread
+     * @return a runnable that propagates the captured context to the task, or the task itself if there's nothing
+     *     to propagate
+     */
+    @Nonnull
+    Runnable propagate(
+            @Nonnull final Runnable task);
+
+}
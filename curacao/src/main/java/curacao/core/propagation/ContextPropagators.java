@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core.propagation;
+
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * The registry of {@link ContextPropagator}'s applied to every task submitted to the Curacao thread pool.
+ * <p>
+ * The MDC is always propagated. Additional propagators are discovered on the classpath through the standard
+ * {@link ServiceLoader} mechanism (i.e., listed in a
+ * {@code META-INF/services/curacao.core.propagation.ContextPropagator} file), or can be registered
+ * programmatically through {@link #register(ContextPropagator)} during application startup.
+ */
+public final class ContextPropagators {
+
+    private static final Logger LOG = getLogger(ContextPropagators.class);
+
+    /**
+     * Copy-on-write; registration is rare, and only ever happens during startup, whereas the propagators are
+     * read for every single task.
+     */
+    private static volatile List<ContextPropagator> propagators_ = loadPropagators();
+
+    // Cannot instantiate
+    private ContextPropagators() {
+    }
+
+    /**
+     * Registers an additional context propagator, applied to all tasks submitted after this call returns.
+     *
+     * @param propagator the context propagator to register
+     */
+    public static synchronized void register(
+            @Nonnull final ContextPropagator propagator) {
+        checkNotNull(propagator, "Context propagator cannot be null.");
+        propagators_ = ImmutableList.<ContextPropagator>builder()
+                .addAll(propagators_)
+                .add(propagator)
+                .build();
+    }
+
+    /**
+     * Captures the context of the calling thread through every registered propagator, and returns a runnable
+     * that applies it around the given task.
+     *
+     * @param task the task to be run on a pool thread
+     * @return the task, wrapped by each propagator that had something to propagate
+     */
+    @Nonnull
+    public static Runnable propagate(
+            @Nonnull final Runnable task) {
+        checkNotNull(task, "Task cannot be null.");
+        final List<ContextPropagator> propagators = propagators_;
+        Runnable propagated = task;
+        // Indexed on purpose; avoids allocating an iterator for every task.
+        for (int i = 0, l = propagators.size(); i < l; i++) {
+            propagated = propagators.get(i).propagate(propagated);
+        }
+        return propagated;
+    }
+
+    private static List<ContextPropagator> loadPropagators() {
+        final ImmutableList.Builder<ContextPropagator> builder = ImmutableList.builder();
+        builder.add(new MdcContextPropagator());
+        try {
+            for (final ContextPropagator propagator : ServiceLoader.load(ContextPropagator.class)) {
+                LOG.debug("Found context propagator: {}", propagator.getClass().getCanonicalName());
+                builder.add(propagator);
+            }
+        } catch (final ServiceConfigurationError e) {
+            LOG.error("Failed to load context propagators, only the MDC will be propagated.", e);
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core.propagation;
+
+import org.slf4j.MDC;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Carries the MDC (mapped diagnostic context) of the submitting thread over to the pool thread.
+ * <p>
+ * The MDC has to be snapshotted when a task is submitted, given that the submitting thread is free to change it
+ * right after; SLF4J only hands out a copy of it, never the map itself. However, there's no sense in copying an
+ * MDC that was never set, which is the common case for applications that don't use it, so such a task only gets
+ * a clean MDC. Either way, the pool thread's MDC is cleared before and after every task, so entries put by one
+ * task (e.g., a filter that never removes them) never leak into the logs of another.
+ */
+public final class MdcContextPropagator implements ContextPropagator {
+
+    @Nonnull
+    @Override
+    public Runnable propagate(
+            @Nonnull final Runnable task) {
+        // Annoyingly, getCopyOfContextMap() returns null if no map was set; which is also what makes skipping
+        // the copy cheap.
+        final Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null || context.isEmpty()) {
+            // Nothing to carry over, but whatever a previous task left behind on the pool thread must go.
+            return () -> {
+                try {
+                    MDC.clear();
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        }
+        return () -> {
+            try {
+                // Set the current thread's MDC to our parent "copy", and invoke the wrapped runnable.
+                MDC.setContextMap(context);
+                task.run();
+            } finally {
+                // Detach/clear the MDC from the child's thread local space.
+                MDC.clear();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.core.propagation;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Carries the value of an arbitrary {@link ThreadLocal} (e.g., an application's trace or security context) over
+ * to the pool thread. Nothing is propagated when the thread local has no value on the submitting thread.
+ * <p>
+ * The value itself is handed over as-is, not copied, so it should be immutable or otherwise safe to share
+ * across threads.
+ */
+public final class ThreadLocalContextPropagator<T> implements ContextPropagator {
+
+    private final ThreadLocal<T> threadLocal_;
+
+    public ThreadLocalContextPropagator(
+            @Nonnull final ThreadLocal<T> threadLocal) {
+        threadLocal_ = checkNotNull(threadLocal, "Thread local cannot be null.");
+    }
+
+    @Nonnull
+    @Override
+    public Runnable propagate(
+            @Nonnull final Runnable task) {
+        final T value = threadLocal_.get();
+        if (value == null) {
+            return task;
+        }
+        return () -> {
+            final T previous = threadLocal_.get();
+            threadLocal_.set(value);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    threadLocal_.remove();
+                } else {
+                    threadLocal_.set(previous);
+                }
+            }
+        };
+    }
+
+}
@@ -28,6 +28,7 @@ package curacao.core.servlet;
 
 import com.google.common.collect.ImmutableMultimap;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
@@ -48,6 +49,10 @@ public interface HttpRequest {
     List<String> getHeaders(
             final String name);
 
+    /**
+     * Returns all request headers by name. Implementations should build this at most once per request, and
+     * look up header names case-insensitively.
+     */
     default Map<String, Collection<String>> getHeaders() {
         final ImmutableMultimap.Builder<String, String> headerBuilder = ImmutableMultimap.builder();
 
@@ -76,6 +81,21 @@ public interface HttpRequest {
 
     List<HttpCookie> getCookies();
 
+    /**
+     * Returns the first cookie sent with this request by the given name, or null if there is no such cookie.
+     * Implementations should index the request cookies at most once per request.
+     */
+    @Nullable
+    default HttpCookie getCookie(
+            final String name) {
+        for (final HttpCookie cookie : getCookies()) {
+            if (cookie.getName().equals(name)) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
     int getContentLength();
 
     long getContentLengthLong();
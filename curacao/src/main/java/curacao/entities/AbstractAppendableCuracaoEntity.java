@@ -51,8 +51,12 @@ public abstract class AbstractAppendableCuracaoEntity implements CuracaoEntity {
         this(UTF_8_CHARSET);
     }
 
+    /**
+     * Writes this entity out through {@link #toWriter(Writer)}. Extending classes that can encode themselves
+     * straight to the output stream may override this method to skip the {@link Writer}.
+     */
     @Override
-    public final void write(
+    public void write(
             final OutputStream os) throws Exception {
         try (OutputStreamWriter w = new OutputStreamWriter(os, charsetName_)) {
             toWriter(w);
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.entities.streaming;
+
+import com.google.common.net.MediaType;
+import curacao.entities.AbstractCuracaoEntity;
+
+import javax.annotation.Nonnull;
+import java.io.OutputStream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getStreamingResponseFlushInterval;
+
+/**
+ * An entity that writes its elements out one at a time as they're pulled from an {@link EntityCursor}, rather
+ * than from a collection built up front; only one element need be held in memory at any time, no matter how
+ * many there are. Extending classes provide the format, through {@link #open(OutputStream)}.
+ * <p>
+ * What's written so far is flushed to the client every so many elements, so the client gets to see elements as
+ * they're written; this also means a client that has disconnected is noticed early on. The cursor is closed
+ * once the entity is written, or when writing fails. As the cursor can only be walked once, so can the entity
+ * only be written once.
+ */
+public abstract class AbstractStreamingCuracaoEntity<T> extends AbstractCuracaoEntity {
+
+    private static final int DEFAULT_FLUSH_INTERVAL = getStreamingResponseFlushInterval();
+
+    private final EntityCursor<T> cursor_;
+
+    /**
+     * Flushes after this many elements, or never before the end if zero (or less).
+     */
+    private final int flushInterval_;
+
+    public AbstractStreamingCuracaoEntity(
+            final int statusCode,
+            final String contentType,
+            @Nonnull final EntityCursor<T> cursor,
+            final int flushInterval) {
+        super(statusCode, contentType);
+        cursor_ = checkNotNull(cursor, "Entity cursor cannot be null.");
+        flushInterval_ = flushInterval;
+    }
+
+    public AbstractStreamingCuracaoEntity(
+            final int statusCode,
+            final MediaType mediaType,
+            @Nonnull final EntityCursor<T> cursor) {
+        this(statusCode, mediaType.toString(), cursor, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    @Override
+    public final void write(
+            final OutputStream os) throws Exception {
+        try (EntityCursor<T> cursor = cursor_) {
+            final ElementWriter<T> writer = open(os);
+            long count = 0L;
+            while (cursor.hasNext()) {
+                writer.write(cursor.next());
+                if (flushInterval_ > 0 && ++count % flushInterval_ == 0L) {
+                    writer.flush();
+                }
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Called once when the entity is written, to open the writer of its elements on the given stream.
+     */
+    @Nonnull
+    protected abstract ElementWriter<T> open(
+            final OutputStream os) throws Exception;
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.entities.streaming;
+
+/**
+ * Writes the elements of a streaming entity out to the response, one at a time, in the format of the entity;
+ * opened per response by {@link AbstractStreamingCuracaoEntity#open(java.io.OutputStream)}.
+ */
+public interface ElementWriter<T> {
+
+    void write(
+            final T element) throws Exception;
+
+    /**
+     * Flushes whatever has been written so far all the way through to the client.
+     */
+    void flush() throws Exception;
+
+    /**
+     * Called once after the last element has been written, e.g., to close a JSON array. Never called if
+     * writing failed part way through, so that a client can't mistake a truncated response for a whole one.
+     */
+    void finish() throws Exception;
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.entities.streaming;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The source of the elements of a streaming entity (see {@link AbstractStreamingCuracaoEntity}), e.g., over the
+ * rows of a database cursor; elements are pulled one at a time, as they're written out.
+ * <p>
+ * A cursor is always closed once the entity is done with it, whether all of the elements were written out,
+ * or writing failed part way through, e.g., because the client disconnected.
+ */
+public interface EntityCursor<T> extends AutoCloseable {
+
+    boolean hasNext() throws Exception;
+
+    T next() throws Exception;
+
+    /**
+     * Releases whatever the cursor holds on to; by default, nothing.
+     */
+    @Override
+    default void close() throws Exception {
+        // Nothing, intentional.
+    }
+
+    /**
+     * A cursor over the given iterator; closing the cursor closes the iterator too, if it's closeable.
+     */
+    @Nonnull
+    static <T> EntityCursor<T> of(
+            @Nonnull final Iterator<T> iterator) {
+        checkNotNull(iterator, "Iterator cannot be null.");
+        return new EntityCursor<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() throws Exception {
+                if (iterator instanceof AutoCloseable) {
+                    ((AutoCloseable) iterator).close();
+                }
+            }
+        };
+    }
+
+    /**
+     * A cursor over the given stream; closing the cursor closes the stream, and so runs its close handlers.
+     */
+    @Nonnull
+    static <T> EntityCursor<T> of(
+            @Nonnull final Stream<T> stream) {
+        checkNotNull(stream, "Stream cannot be null.");
+        final Iterator<T> iterator = stream.iterator();
+        return new EntityCursor<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                stream.close();
+            }
+        };
+    }
+
+}
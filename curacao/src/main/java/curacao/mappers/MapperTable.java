@@ -40,6 +40,8 @@ import curacao.exceptions.reflection.ArgumentRequiredException;
 import curacao.mappers.request.AbstractControllerArgumentMapper;
 import curacao.mappers.request.types.*;
 import curacao.mappers.request.types.body.*;
+import curacao.mappers.request.types.multipart.MultipartRequest;
+import curacao.mappers.request.types.multipart.MultipartRequestMapper;
 import curacao.mappers.response.AbstractControllerReturnTypeMapper;
 import curacao.mappers.response.types.CuracaoEntityReturnMapper;
 import curacao.mappers.response.types.CuracaoExceptionWithEntityReturnMapper;
@@ -137,6 +139,8 @@ public final class MapperTable {
         DEFAULT_ARG_MAPPERS.put(String.class, new RequestBodyParameterMapper());
         // For "application/x-www-form-urlencoded" encoded bodies (usually attached to POST and PUT requests).
         DEFAULT_ARG_MAPPERS.put(Multimap.class, new RequestBodyMultimapMapper());
+        // For "multipart/form-data" encoded bodies (usually file uploads), parsed as they're read.
+        DEFAULT_ARG_MAPPERS.put(MultipartRequest.class, new MultipartRequestMapper());
         // Object must be last, acts as a "catch all".
         DEFAULT_ARG_MAPPERS.put(Object.class, new ObjectMapper());
     }
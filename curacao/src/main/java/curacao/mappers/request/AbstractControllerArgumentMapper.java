@@ -26,11 +26,13 @@
 
 package curacao.mappers.request;
 
+import curacao.annotations.parameters.RequestBody;
 import curacao.context.CuracaoContext;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 
 public abstract class AbstractControllerArgumentMapper<T> {
 
@@ -48,4 +50,37 @@ public abstract class AbstractControllerArgumentMapper<T> {
             @Nullable final Annotation annotation,
             @Nonnull final CuracaoContext context) throws Exception;
 
+    /**
+     * Called in place of {@link #resolve(Annotation, CuracaoContext)} with the declared, possibly generic, type of
+     * the argument/parameter. By default, ignores the type. Mappers that resolve arguments of many types, like a
+     * mapper that binds the request body to any type (registered against {@link Object}), override this instead.
+     *
+     * @param type the declared type of the argument/parameter; e.g., {@code List<String>}
+     * @return an object of type T if the mapper could extract a valid argument from the incoming request.
+     *     Should return null if no argument could be discovered or extracted.
+     * @throws Exception in the event of an error or exception case.
+     */
+    @Nullable
+    public T resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext context,
+            @Nonnull final Type type) throws Exception {
+        return resolve(annotation, context);
+    }
+
+    /**
+     * Whether this mapper needs the request body buffered into memory to resolve an argument/parameter of the
+     * given type, annotated with the given annotation; if so, the body may be read without blocking before the
+     * controller method is invoked. By default, true for any {@link RequestBody} annotated argument. Mappers that
+     * read the body as it arrives, e.g., binding the records of the body one at a time, override this.
+     *
+     * @param annotation the first annotation of the argument/parameter, if any
+     * @param type the declared type of the argument/parameter
+     */
+    public boolean requiresBufferedBody(
+            @Nullable final Annotation annotation,
+            @Nonnull final Type type) {
+        return annotation instanceof RequestBody;
+    }
+
 }
@@ -155,6 +155,8 @@ public final class RequestMappingTable {
                 new InjectableComponent<>(matcher, getInjectableConstructorForClass(matcher)),
                 // Filter classes and injectable constructors.
                 filterList,
+                // Scheduling priority of requests routed to this controller method.
+                mapping.priority(),
                 // Method in controller class.
                 method);
     }
@@ -27,7 +27,9 @@
 package curacao.mappers.request.types;
 
 import curacao.context.CuracaoContext;
+import curacao.core.servlet.HttpRequest;
 import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyDecoder;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -45,7 +47,10 @@ public final class InputStreamMapper extends AbstractControllerArgumentMapper<In
         // container must forcibly close the input stream and output
         // streams. If the container does the right thing, this will
         // ~not~ cause leaks.
-        return ctx.getRequest().getInputStream();
+        // An encoded body is decoded as it's read, up to the configured
+        // maximum decoded size.
+        final HttpRequest request = ctx.getRequest();
+        return RequestBodyDecoder.decode(request, request.getInputStream(), 0L);
     }
 
 }
@@ -37,7 +37,6 @@ import curacao.mappers.request.AbstractControllerArgumentMapper;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
-import java.util.List;
 
 import static com.google.common.net.HttpHeaders.ACCEPT;
 import static com.google.common.net.HttpHeaders.ACCEPT_CHARSET;
@@ -86,7 +85,7 @@ public final class StringMapper extends AbstractControllerArgumentMapper<String>
                     // A cookie name was provided, look it up in the incoming Cookie
                     // HTTP request header or return null if the cookie by name
                     // was not found.
-                    getCookieByName(request.getCookies(), cookieName);
+                    getCookieValue(request.getCookie(cookieName));
         } else if (annotation instanceof Date) {
             result = request.getHeader(DATE);
         } else if (annotation instanceof Host) {
@@ -131,19 +130,9 @@ public final class StringMapper extends AbstractControllerArgumentMapper<String>
         return result;
     }
 
-    private static String getCookieByName(
-            final List<HttpCookie> cookies,
-            final String name) {
-        String result = null;
-        if (cookies != null) {
-            for (final HttpCookie cookie : cookies) {
-                if (cookie.getName().equals(name)) {
-                    result = cookie.getValue();
-                    break;
-                }
-            }
-        }
-        return result;
+    private static String getCookieValue(
+            @Nullable final HttpCookie cookie) {
+        return (cookie != null) ? cookie.getValue() : null;
     }
 
 }
@@ -29,7 +29,6 @@ package curacao.mappers.request.types.body;
 import curacao.annotations.parameters.RequestBody;
 import curacao.context.CuracaoContext;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 public abstract class AbstractByteArrayInputStreamRequestBodyMapper<T>
@@ -40,7 +39,15 @@ public abstract class AbstractByteArrayInputStreamRequestBodyMapper<T>
             final RequestBody annotation,
             final CuracaoContext context,
             final byte[] body) throws Exception {
-        return resolveWithInputStream(new ByteArrayInputStream(body));
+        return resolveWithBodyBuffer(annotation, context, RequestBodyBuffer.wrap(body));
+    }
+
+    @Override
+    public final T resolveWithBodyBuffer(
+            final RequestBody annotation,
+            final CuracaoContext context,
+            final RequestBodyBuffer body) throws Exception {
+        return resolveWithInputStream(body.asInputStream());
     }
 
     public abstract T resolveWithInputStream(
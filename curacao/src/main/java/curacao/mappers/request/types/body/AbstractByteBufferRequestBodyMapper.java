@@ -39,7 +39,16 @@ public abstract class AbstractByteBufferRequestBodyMapper<T>
             final RequestBody annotation,
             final CuracaoContext context,
             final byte[] body) throws Exception {
-        return resolveWithBuffer(ByteBuffer.wrap(body));
+        return resolveWithBodyBuffer(annotation, context, RequestBodyBuffer.wrap(body));
+    }
+
+    @Override
+    public final T resolveWithBodyBuffer(
+            final RequestBody annotation,
+            final CuracaoContext context,
+            final RequestBodyBuffer body) throws Exception {
+        // A read-only view of the buffered body, not a copy.
+        return resolveWithBuffer(body.asByteBuffer());
     }
 
     public abstract T resolveWithBuffer(
@@ -26,200 +26,60 @@
 
 package curacao.mappers.request.types.body;
 
-import com.google.common.collect.ImmutableListMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import curacao.annotations.parameters.RequestBody;
-import org.apache.commons.lang3.StringUtils;
+import curacao.context.CuracaoContext;
+import curacao.util.http.FormParameters;
 
-import java.nio.charset.Charset;
-import java.util.Map;
-
-import static com.google.common.base.Preconditions.checkArgument;
-import static java.net.URLDecoder.decode;
+import static curacao.CuracaoConfig.getMaxFormFieldLengthInBytes;
+import static curacao.CuracaoConfig.getMaxFormFields;
 
 public abstract class AbstractEncodedRequestBodyMapper<T>
-        extends AbstractRequestBodyAsCharsetAwareStringMapper<T> {
+        extends AbstractMemoryBufferingRequestBodyMapper<T> {
 
-    private static final char DELIMITER = '&';
-    private static final char KEY_VALUE_EQUALS = '=';
-    private static final char VALUE_DOUBLE_QUOTE = '"';
+    private static final int MAX_FORM_FIELDS = getMaxFormFields();
+    private static final int MAX_FORM_FIELD_LENGTH_BYTES = getMaxFormFieldLengthInBytes();
 
     @Override
-    public final T resolveWithStringAndEncoding(
+    public final T resolveWithBody(
             final RequestBody annotation,
-            final String s,
-            final Charset encoding) throws Exception {
-        return resolveWithMultimap(annotation, parse(s, encoding));
+            final CuracaoContext context,
+            final byte[] body) throws Exception {
+        return resolveWithBodyBuffer(annotation, context, RequestBodyBuffer.wrap(body));
     }
 
-    public abstract T resolveWithMultimap(
+    @Override
+    public final T resolveWithBodyBuffer(
             final RequestBody annotation,
-            final Multimap<String, String> map) throws Exception;
-
-    private static Multimap<String, String> parse(
-            final String body,
-            final Charset encodingCharset) throws Exception {
-        final ImmutableMultimap.Builder<String, String> result = ImmutableListMultimap.builder();
-        // https://github.com/markkolich/curacao/issues/12
-        // Only bother parsing the POST body if there's actually something there to parse.
-        if (StringUtils.isNotBlank(body)) {
-            final StringBuffer buffer = new StringBuffer(body);
-            final Cursor cursor = new Cursor(0, buffer.length());
-            while (!cursor.atEnd()) {
-                final Map.Entry<String, String> entry = getNextNameValuePair(buffer, cursor);
-                // https://github.com/markkolich/curacao/issues/20
-                // Only attempt to "decode" the key -> value pair in the form body if the key and value are non-null.
-                if (entry.getKey() != null && entry.getValue() != null) {
-                    final String key = decode(entry.getKey(), encodingCharset.name());
-                    final String value = decode(entry.getValue(), encodingCharset.name());
-                    result.put(key, value);
-                }
-            }
-        }
-        return result.build();
-    }
-
-    private static Map.Entry<String, String> getNextNameValuePair(
-            final StringBuffer buffer,
-            final Cursor cursor) {
-        boolean terminated = false;
-
-        int pos = cursor.getPosition();
-        final int indexFrom = cursor.getPosition();
-        final int indexTo = cursor.getUpperBound();
-
-        // Find name
-        String name = null;
-        while (pos < indexTo) {
-            final char ch = buffer.charAt(pos);
-            if (ch == KEY_VALUE_EQUALS) {
-                break;
-            }
-            if (ch == DELIMITER) {
-                terminated = true;
-                break;
-            }
-            pos++;
-        }
-
-        if (pos == indexTo) {
-            terminated = true;
-            name = buffer.substring(indexFrom, indexTo).trim();
-        } else {
-            name = buffer.substring(indexFrom, pos).trim();
-            pos++;
-        }
-
-        if (terminated) {
-            cursor.updatePosition(pos);
-            return Maps.immutableEntry(name, null);
-        }
-
-        // Find value
-        int i1 = pos;
-
-        boolean quoted = false;
-        boolean escaped = false;
-        while (pos < indexTo) {
-            final char ch = buffer.charAt(pos);
-            if (ch == VALUE_DOUBLE_QUOTE && !escaped) {
-                quoted = !quoted;
-            }
-            if (!quoted && !escaped && ch == DELIMITER) {
-                terminated = true;
-                break;
-            }
-            if (escaped) {
-                escaped = false;
-            } else {
-                escaped = quoted && ch == '\\';
-            }
-            pos++;
-        }
-
-        int i2 = pos;
-        // Trim leading white space
-        while (i1 < i2 && (Whitespace.isWhitespace(buffer.charAt(i1)))) {
-            i1++;
-        }
-        // Trim trailing white space
-        while ((i2 > i1) && (Whitespace.isWhitespace(buffer.charAt(i2 - 1)))) {
-            i2--;
-        }
-        // Strip away quotes if necessary
-        if (((i2 - i1) >= 2) && (buffer.charAt(i1) == '"')
-                && (buffer.charAt(i2 - 1) == '"')) {
-            i1++;
-            i2--;
-        }
-
-        final String value = buffer.substring(i1, i2);
-        if (terminated) {
-            pos++;
-        }
-        cursor.updatePosition(pos);
-        return Maps.immutableEntry(name, value);
+            final CuracaoContext context,
+            final RequestBodyBuffer body) throws Exception {
+        // The body is parsed once per request, and the result shared by every encoded request body parameter
+        // of the controller method; e.g., a form with a dozen fields bound to a dozen parameters.
+        FormParameters parameters = CuracaoContext.Extensions.getBodyParameters(context);
+        if (parameters == null) {
+            // https://github.com/markkolich/curacao/issues/12
+            // https://github.com/markkolich/curacao/issues/20
+            // Note an empty body, and names without a value, result in no parameters.
+            parameters = FormParameters.parse(body.array(), body.size(), getRequestEncoding(context),
+                    MAX_FORM_FIELDS, MAX_FORM_FIELD_LENGTH_BYTES);
+            CuracaoContext.Extensions.setBodyParameters(context, parameters);
+        }
+        return resolveWithParameters(annotation, parameters);
     }
 
-    private static final class Whitespace {
-
-        private static final int CR = 13; // <US-ASCII CR, carriage return (13)>
-        private static final int LF = 10; // <US-ASCII LF, linefeed (10)>
-        private static final int SP = 32; // <US-ASCII SP, space (32)>
-        private static final int HT = 9;  // <US-ASCII HT, horizontal-tab (9)>
-
-        private static boolean isWhitespace(
-                final char ch) {
-            return ch == SP || ch == HT || ch == CR || ch == LF;
-        }
-
+    /**
+     * Called with the parsed body parameters. By default, hands all of them to
+     * {@link #resolveWithMultimap(RequestBody, Multimap)}; override if only some parameters are needed, so the
+     * rest are never decoded.
+     */
+    public T resolveWithParameters(
+            final RequestBody annotation,
+            final FormParameters parameters) throws Exception {
+        return resolveWithMultimap(annotation, parameters.asMultimap());
     }
 
-    private static final class Cursor {
-
-        private final int lowerBound_;
-        private final int upperBound_;
-        private int position_;
-
-        public Cursor(
-                final int lowerBound,
-                final int upperBound) {
-            checkArgument(lowerBound >= 0, "Lower bound cannot be negative.");
-            checkArgument(lowerBound < upperBound, "Lower bound cannot "
-                    + "be greater than upper bound.");
-            lowerBound_ = lowerBound;
-            upperBound_ = upperBound;
-            position_ = lowerBound;
-        }
-
-        @SuppressWarnings("unused")
-        public int getLowerBound() {
-            return lowerBound_;
-        }
-
-        public int getUpperBound() {
-            return upperBound_;
-        }
-
-        public int getPosition() {
-            return position_;
-        }
-
-        public void updatePosition(
-                final int pos) {
-            checkArgument(pos >= lowerBound_, "pos: " + pos
-                    + " < lowerBound: " + lowerBound_);
-            checkArgument(pos <= upperBound_, "pos: " + pos
-                    + " > upperBound: " + upperBound_);
-            position_ = pos;
-        }
-
-        public boolean atEnd() {
-            return position_ >= upperBound_;
-        }
-
-    }
+    public abstract T resolveWithMultimap(
+            final RequestBody annotation,
+            final Multimap<String, String> map) throws Exception;
 
 }
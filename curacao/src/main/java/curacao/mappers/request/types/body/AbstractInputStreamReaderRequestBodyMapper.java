@@ -29,7 +29,6 @@ package curacao.mappers.request.types.body;
 import curacao.annotations.parameters.RequestBody;
 import curacao.context.CuracaoContext;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 
@@ -41,9 +40,16 @@ public abstract class AbstractInputStreamReaderRequestBodyMapper<T>
             final RequestBody annotation,
             final CuracaoContext ctx,
             final byte[] body) throws Exception {
+        return resolveWithBodyBuffer(annotation, ctx, RequestBodyBuffer.wrap(body));
+    }
+
+    @Override
+    public final T resolveWithBodyBuffer(
+            final RequestBody annotation,
+            final CuracaoContext ctx,
+            final RequestBodyBuffer body) throws Exception {
         final Charset requestEncoding = getRequestEncoding(ctx);
-        try (InputStreamReader reader =
-                new InputStreamReader(new ByteArrayInputStream(body), requestEncoding)) {
+        try (InputStreamReader reader = new InputStreamReader(body.asInputStream(), requestEncoding)) {
             return resolveWithReader(reader);
         }
     }
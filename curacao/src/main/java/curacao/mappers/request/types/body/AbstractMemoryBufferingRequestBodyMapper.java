@@ -38,10 +38,8 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 
-import static com.google.common.io.ByteStreams.limit;
 import static curacao.CuracaoConfig.getDefaultCharEncodingIfNotSpecified;
 import static curacao.CuracaoConfig.getDefaultMaxRequestBodySizeInBytes;
-import static org.apache.commons.io.IOUtils.toByteArray;
 
 public abstract class AbstractMemoryBufferingRequestBodyMapper<T>
         extends AbstractControllerArgumentMapper<T> {
@@ -60,56 +58,79 @@ public abstract class AbstractMemoryBufferingRequestBodyMapper<T>
             return null;
         }
         final RequestBody rb = (RequestBody) annotation;
+        final long maxLength = (rb.maxSizeInBytes() > 0L) ?
+                // If the RequestBody annotation specified a maximum body
+                // size in bytes, then we should honor that here.
+                rb.maxSizeInBytes() :
+                // Otherwise, default to what's been globally configured in
+                // the app configuration.
+                DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
         // If this request context already has a copy of the request body
         // in memory, then we should not attempt to "re-buffer" it. We can
         // use what's already been fetched over the wire from the client.
-        byte[] body = CuracaoContext.Extensions.getBody(ctx);
-        if (body == null) {
+        RequestBodyBuffer body = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        if (body != null) {
+            // The body may have been buffered under a larger limit than the
+            // one of this argument; e.g., by the dispatcher ahead of time, or
+            // for another argument of the same controller method.
+            if (maxLength > 0 && body.size() > maxLength) {
+                throw new RequestTooLargeException("Incoming request "
+                        + "body was too large to buffer into memory: "
+                        + body.size() + "-bytes > " + maxLength
+                        + "-bytes maximum.");
+            }
+        } else {
             // No pre-buffered body was attached to the request context. We
             // should attempt to buffer one.
             final HttpRequest request = ctx.getRequest();
-            final long maxLength = (rb.maxSizeInBytes() > 0L) ?
-                    // If the RequestBody annotation specified a maximum body
-                    // size in bytes, then we should honor that here.
-                    rb.maxSizeInBytes() :
-                    // Otherwise, default to what's been globally configured in
-                    // the app configuration.
-                    DEFAULT_MAX_REQUEST_BODY_SIZE_BYTES;
-            // Sigh, blocking I/O (for now).
-            try (InputStream is = request.getInputStream()) {
-                long contentLength = request.getContentLength();
-                if (contentLength != -1L) {
-                    // Content-Length was specified, check to make sure it's not
-                    // larger than the maximum request body size supported.
-                    if (maxLength > 0 && contentLength > maxLength) {
-                        throw new RequestTooLargeException("Incoming request "
-                                + "body was too large to buffer into memory: "
-                                + contentLength + "-bytes > " + maxLength
-                                + "-bytes maximum.");
-                    }
-                } else {
-                    // Content-Length was not specified on the request.
-                    contentLength = (maxLength <= 0) ?
-                            // Default to copy as much as data as we can if the
-                            // config does not place a limit on the maximum size
-                            // of the request body to buffer in memory.
-                            Long.MAX_VALUE :
-                            // No Content-Length was specified. Default the max
-                            // number of bytes to the max request body size.
-                            maxLength;
+            // Sigh, blocking I/O (for now). An encoded body is decoded as
+            // it's read, failing as soon as the decoded size exceeds the
+            // maximum request body size supported.
+            try (InputStream is = RequestBodyDecoder.decode(request,
+                    request.getInputStream(), maxLength)) {
+                // Pre-sized from the Content-Length, if any; fails as soon as
+                // the Content-Length, or the number of bytes actually read,
+                // exceeds the maximum request body size supported. This
+                // prevents us from filling up too many buffers which could
+                // lead to bringing down the JVM with too many requests and
+                // not enough memory. The Content-Length of an encoded body
+                // says nothing about its decoded size.
+                final long contentLength = (RequestBodyDecoder.isEncoded(request))
+                        ? -1L
+                        : request.getContentLengthLong();
+                body = new RequestBodyBuffer(contentLength, maxLength);
+                try {
+                    body.readFully(is);
+                } catch (final Exception e) {
+                    // Not attached to the context, so the context won't
+                    // delete the spill file, if any.
+                    body.close();
+                    throw e;
                 }
-                // Note we're using a limited input stream that intentionally
-                // limits the number of bytes read by reading N-bytes, then
-                // stops. This prevents us from filling up too many buffers
-                // which could lead to bringing down the JVM with too many
-                // requests and not enough memory.
-                body = toByteArray(limit(is, contentLength));
-                // Cache the freshly buffered body byte[] array to the request
-                // context for other mappers to pick up if needed.
-                CuracaoContext.Extensions.setBody(ctx, body);
+                // Cache the freshly buffered body to the request context for
+                // other mappers to pick up if needed.
+                CuracaoContext.Extensions.setBodyBuffer(ctx, body);
             }
         }
-        return resolveWithBody(rb, ctx, body);
+        return resolveWithBodyBuffer(rb, ctx, body);
+    }
+
+    /**
+     * Called when the request body has been buffered into memory safely, and is ready to be processed. By
+     * default, hands a copy of the body to {@link #resolveWithBody(RequestBody, CuracaoContext, byte[])};
+     * override to read the body straight from the buffer instead.
+     *
+     * @param body the buffered request body; its backing array may be recycled once the request completes, so
+     *     neither it nor any view of it may be held on to
+     * @return an object of type T once resolved and constructed.
+     * @throws Exception if anything went wrong during the mapper resolution.
+     */
+    @Nullable
+    public T resolveWithBodyBuffer(
+            final RequestBody annotation,
+            final CuracaoContext context,
+            final RequestBodyBuffer body) throws Exception {
+        return resolveWithBody(annotation, context, body.toByteArray());
     }
 
     /**
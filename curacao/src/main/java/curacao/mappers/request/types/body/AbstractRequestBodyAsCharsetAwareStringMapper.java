@@ -28,7 +28,6 @@ package curacao.mappers.request.types.body;
 
 import curacao.annotations.parameters.RequestBody;
 import curacao.context.CuracaoContext;
-import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.Charset;
 
@@ -40,12 +39,20 @@ public abstract class AbstractRequestBodyAsCharsetAwareStringMapper<T>
             final RequestBody annotation,
             final CuracaoContext context,
             final byte[] body) throws Exception {
-        // Convert the byte[] array from the request body into a String
-        // using the derived character encoding.
+        return resolveWithBodyBuffer(annotation, context, RequestBodyBuffer.wrap(body));
+    }
+
+    @Override
+    public final T resolveWithBodyBuffer(
+            final RequestBody annotation,
+            final CuracaoContext context,
+            final RequestBodyBuffer body) throws Exception {
+        // Convert the request body into a String using the derived
+        // character encoding.
         final Charset encoding = getRequestEncoding(context);
         return resolveWithStringAndEncoding(annotation,
                 // The encoding String itself.
-                StringUtils.toEncodedString(body, encoding),
+                body.toString(encoding),
                 // The encoding of the String.
                 encoding);
     }
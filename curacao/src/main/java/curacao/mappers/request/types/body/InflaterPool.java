@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Inflater;
+
+import static curacao.CuracaoConfig.getBodyDecompressionInflaterPoolSize;
+
+/**
+ * A bounded pool of {@link Inflater}s that compressed request bodies are decoded with, recycled from one request
+ * to the next; each inflater holds on to a sizeable chunk of native memory, that is otherwise only freed once
+ * the inflater is garbage collected.
+ * <p>
+ * Inflaters that expect a zlib wrapper and those that don't (raw deflate, as wrapped by gzip) are pooled
+ * separately, as an inflater can't be switched from one to the other. When a pool is empty, a new inflater is
+ * created; when it's full, a recycled inflater is ended.
+ */
+/* default */ final class InflaterPool {
+
+    /**
+     * The pool shared by all requests, configured from the application configuration.
+     */
+    /* default */ static final InflaterPool DEFAULT = new InflaterPool(getBodyDecompressionInflaterPoolSize());
+
+    /**
+     * Idle inflaters that expect a zlib wrapper, and those that don't; null if pooling is disabled.
+     */
+    private final BlockingQueue<Inflater> zlib_;
+    private final BlockingQueue<Inflater> raw_;
+
+    /* default */ InflaterPool(
+            final int maxInflaters) {
+        if (maxInflaters <= 0) {
+            zlib_ = null;
+            raw_ = null;
+        } else {
+            zlib_ = new ArrayBlockingQueue<>(maxInflaters);
+            raw_ = new ArrayBlockingQueue<>(maxInflaters);
+        }
+    }
+
+    /**
+     * Returns an inflater, either recycled or freshly created.
+     *
+     * @param nowrap true for an inflater of raw deflate data, false for one of zlib wrapped data
+     */
+    /* default */ Inflater acquire(
+            final boolean nowrap) {
+        final BlockingQueue<Inflater> queue = (nowrap) ? raw_ : zlib_;
+        final Inflater inflater = (queue != null) ? queue.poll() : null;
+        return (inflater != null) ? inflater : new Inflater(nowrap);
+    }
+
+    /**
+     * Returns the given inflater to the pool, or ends it if the pool is full. The caller must not touch the
+     * inflater again.
+     *
+     * @param nowrap as given when the inflater was acquired
+     */
+    /* default */ void recycle(
+            final Inflater inflater,
+            final boolean nowrap) {
+        final BlockingQueue<Inflater> queue = (nowrap) ? raw_ : zlib_;
+        if (queue != null) {
+            inflater.reset();
+            if (queue.offer(inflater)) {
+                return;
+            }
+        }
+        inflater.end();
+    }
+
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Decodes a {@code gzip} or {@code deflate} encoded request body as it's read, with an inflater borrowed from an
+ * {@link InflaterPool}. The decoded size is checked against the limit as the body is inflated, so a small body
+ * that inflates to something huge (a "zip bomb") is turned away after inflating at most one byte over the limit.
+ * <p>
+ * A {@code gzip} body may consist of several concatenated members; the checksum and size in the trailer of each
+ * member are verified. A {@code deflate} body is expected to be zlib wrapped (RFC 1950), but as some clients
+ * send raw deflate data instead, the wrapper is sniffed from the first two bytes.
+ * <p>
+ * The inflater is returned to the pool once the end of the body is reached, or when this stream is closed,
+ * whichever comes first. If the body can't be decoded, or is too large once decoded, the inflater is ended right
+ * away instead, rather than left for the garbage collector to free its native memory.
+ */
+/* default */ final class InflatingInputStream extends InputStream {
+
+    /* default */ enum Format {
+
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        /**
+         * The Content-Encoding of the format.
+         */
+        private final String encoding_;
+
+        Format(
+                final String encoding) {
+            encoding_ = encoding;
+        }
+
+        @Override
+        public String toString() {
+            return encoding_;
+        }
+
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final int DEFLATE_METHOD = 8;
+
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+
+    /**
+     * The modification time, extra flags, and operating system fields of a gzip header.
+     */
+    private static final int GZIP_HEADER_SKIP = 6;
+
+    private final InputStream input_;
+
+    private final Format format_;
+
+    private final InflaterPool pool_;
+
+    /**
+     * The maximum decoded size of the body in bytes, or zero (or less) for no limit.
+     */
+    private final long maxSize_;
+
+    /**
+     * Encoded bytes read from the input; those from the position (inclusive) to the limit (exclusive) have yet
+     * to be handed to the inflater.
+     */
+    private final byte[] buffer_;
+    private int position_;
+    private int limit_;
+
+    private final CRC32 crc_;
+
+    /**
+     * Reused by {@link #read()}, so reading one byte at a time doesn't allocate.
+     */
+    private final byte[] single_;
+
+    /**
+     * The inflater of the current member, or null if between members.
+     */
+    private Inflater inflater_;
+    private boolean nowrap_;
+
+    /**
+     * The number of decoded bytes, of the body and of the current member.
+     */
+    private long size_;
+    private long memberSize_;
+
+    /**
+     * Set once the first member has been started; a deflate body has just the one.
+     */
+    private boolean started_ = false;
+
+    private boolean finished_ = false;
+
+    /* default */ InflatingInputStream(
+            @Nonnull final InputStream input,
+            @Nonnull final Format format,
+            @Nonnull final InflaterPool pool,
+            final long maxSize) {
+        input_ = checkNotNull(input, "Input stream cannot be null.");
+        format_ = checkNotNull(format, "Format cannot be null.");
+        pool_ = checkNotNull(pool, "Inflater pool cannot be null.");
+        maxSize_ = maxSize;
+        buffer_ = new byte[BUFFER_SIZE];
+        crc_ = new CRC32();
+        single_ = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        return (read(single_, 0, 1) < 0) ? -1 : (single_[0] & 0xFF);
+    }
+
+    @Override
+    public int read(
+            final byte[] b,
+            final int off,
+            final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        try {
+            return inflate(b, off, len);
+        } catch (final IOException | RuntimeException e) {
+            // Malformed, too large, or failed to read; nothing more will be read, and the inflater may be left
+            // in any state, so it's ended rather than recycled.
+            finished_ = true;
+            endInflater();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        input_.close();
+    }
+
+    private int inflate(
+            final byte[] b,
+            final int off,
+            final int len) throws IOException {
+        while (!finished_) {
+            if (inflater_ == null && !startMember()) {
+                finish();
+                break;
+            }
+            if (inflater_.finished()) {
+                // Whatever the inflater didn't consume is the trailer, or the start of the next member.
+                position_ = limit_ - inflater_.getRemaining();
+                endMember();
+                continue;
+            } else if (inflater_.needsInput()) {
+                if (position_ == limit_ && !fill()) {
+                    throw unexpectedEnd();
+                }
+                inflater_.setInput(buffer_, position_, limit_ - position_);
+                position_ = limit_;
+            }
+            // Never inflates more than one byte over the limit.
+            final int max = (maxSize_ > 0L) ? (int) Math.min(len, maxSize_ - size_ + 1L) : len;
+            final int inflated;
+            try {
+                inflated = inflater_.inflate(b, off, max);
+            } catch (final DataFormatException e) {
+                throw new MalformedRequestBodyException("Malformed " + format_ + " request body.", e);
+            }
+            if (inflated > 0) {
+                size_ += inflated;
+                memberSize_ += inflated;
+                if (maxSize_ > 0L && size_ > maxSize_) {
+                    throw new RequestTooLargeException("Incoming request body was too large once decoded: more "
+                            + "than " + maxSize_ + "-bytes maximum.");
+                }
+                if (format_ == Format.GZIP) {
+                    crc_.update(b, off, inflated);
+                }
+                return inflated;
+            } else if (inflater_.needsDictionary()) {
+                throw new MalformedRequestBodyException("Malformed " + format_ + " request body: preset "
+                        + "dictionaries are not supported.");
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the header of the next member, if any, and borrows an inflater for it.
+     *
+     * @return false if there are no more members
+     */
+    private boolean startMember() throws IOException {
+        // An empty body is taken as is; anything after a deflate stream is ignored.
+        if ((started_ && format_ == Format.DEFLATE) || !ensure(1)) {
+            return false;
+        }
+        started_ = true;
+        if (format_ == Format.GZIP) {
+            readGzipHeader();
+            nowrap_ = true;
+            crc_.reset();
+        } else {
+            nowrap_ = !isZlibHeader();
+        }
+        memberSize_ = 0L;
+        inflater_ = pool_.acquire(nowrap_);
+        return true;
+    }
+
+    /**
+     * Verifies the trailer of the current member, if any, and returns its inflater to the pool.
+     */
+    private void endMember() throws IOException {
+        releaseInflater();
+        if (format_ == Format.GZIP) {
+            final long crc = readIntLittleEndian();
+            final long size = readIntLittleEndian();
+            if (crc != crc_.getValue() || size != (memberSize_ & 0xffffffffL)) {
+                throw new MalformedRequestBodyException("Malformed gzip request body: checksum or size mismatch.");
+            }
+        }
+    }
+
+    private void finish() {
+        finished_ = true;
+        releaseInflater();
+    }
+
+    private void releaseInflater() {
+        if (inflater_ != null) {
+            pool_.recycle(inflater_, nowrap_);
+            inflater_ = null;
+        }
+    }
+
+    private void endInflater() {
+        if (inflater_ != null) {
+            inflater_.end();
+            inflater_ = null;
+        }
+    }
+
+    private void readGzipHeader() throws IOException {
+        if (readByte() != GZIP_MAGIC_1 || readByte() != GZIP_MAGIC_2) {
+            throw new MalformedRequestBodyException("Malformed gzip request body: not in gzip format.");
+        }
+        if (readByte() != DEFLATE_METHOD) {
+            throw new MalformedRequestBodyException("Malformed gzip request body: unsupported compression method.");
+        }
+        final int flags = readByte();
+        skip(GZIP_HEADER_SKIP);
+        if ((flags & GZIP_FLAG_EXTRA) != 0) {
+            skip(readByte() | (readByte() << 8));
+        }
+        if ((flags & GZIP_FLAG_NAME) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & GZIP_FLAG_COMMENT) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & GZIP_FLAG_HCRC) != 0) {
+            skip(2);
+        }
+    }
+
+    /**
+     * Whether the next two bytes are a valid zlib header (RFC 1950, section 2.2); does not consume them.
+     */
+    private boolean isZlibHeader() throws IOException {
+        if (!ensure(2)) {
+            return false;
+        }
+        final int cmf = buffer_[position_] & 0xFF;
+        final int flg = buffer_[position_ + 1] & 0xFF;
+        return (cmf & 0x0F) == DEFLATE_METHOD && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private long readIntLittleEndian() throws IOException {
+        return ((long) readByte()) | ((long) readByte() << 8) | ((long) readByte() << 16)
+                | ((long) readByte() << 24);
+    }
+
+    private void skipZeroTerminated() throws IOException {
+        while (readByte() != 0) {
+            // Skip.
+        }
+    }
+
+    private void skip(
+            final int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readByte();
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (!ensure(1)) {
+            throw unexpectedEnd();
+        }
+        return buffer_[position_++] & 0xFF;
+    }
+
+    /**
+     * Makes sure at least the given number of bytes are buffered, reading more of the body as needed.
+     *
+     * @return false if the end of the body was reached first
+     */
+    private boolean ensure(
+            final int count) throws IOException {
+        while (limit_ - position_ < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves any buffered bytes to the start of the buffer, and reads as much of the body as fits after them.
+     *
+     * @return false if the end of the body has been reached
+     */
+    private boolean fill() throws IOException {
+        if (position_ > 0) {
+            System.arraycopy(buffer_, position_, buffer_, 0, limit_ - position_);
+            limit_ -= position_;
+            position_ = 0;
+        }
+        final int read = input_.read(buffer_, limit_, buffer_.length - limit_);
+        if (read < 0) {
+            return false;
+        }
+        limit_ += read;
+        return true;
+    }
+
+    private MalformedRequestBodyException unexpectedEnd() {
+        return new MalformedRequestBodyException("Malformed " + format_ + " request body: unexpected end of body.");
+    }
+
+}
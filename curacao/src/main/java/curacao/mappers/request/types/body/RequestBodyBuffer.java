@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import curacao.exceptions.requests.RequestTooLargeException;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getBodySpillDirectory;
+import static curacao.CuracaoConfig.getBodySpillThresholdInBytes;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * A growable, size-limited buffer for a request body that is read incrementally; e.g., as the Servlet container
+ * signals that more of the body is available to read without blocking.
+ * <p>
+ * Reads go straight into the backing array, which is pre-sized to the Content-Length of the request when known,
+ * so a body that arrives in many small pieces is neither copied piecemeal nor repeatedly re-allocated. So that a
+ * client can't force a large allocation by merely claiming a large Content-Length, the array is pre-sized to
+ * at most 1 MiB, and grown towards the Content-Length as the body arrives. The backing array is taken from, and
+ * eventually returned to, a pool shared by all requests when pooling is enabled in the application configuration.
+ * <p>
+ * Memory for the backing array is reserved from the process-wide {@link RequestBodyMemoryBudget} before it's
+ * allocated, and returned to the budget once the buffer is closed along with the request context. A buffer read
+ * without blocking never waits for the budget, but fails right away if it's exhausted.
+ * <p>
+ * If a spill threshold is configured, a body larger than the threshold is written to a temporary file instead,
+ * and the backing array is only used to stage reads; the body is then served from the file, memory-mapped or
+ * streamed, and the file is deleted when the buffer is closed along with the request context. A spilled body read
+ * back into memory reserves its size from the memory budget too.
+ * <p>
+ * A pooled backing array is only recycled once it has been released by both the request context (once the
+ * request has completed) and the controller invocation (once the controller method has returned); views of the
+ * body handed out by this buffer must not be used beyond that.
+ * <p>
+ * Not thread safe; the Servlet container never invokes the read callbacks of a request concurrently.
+ */
+public final class RequestBodyBuffer implements Closeable {
+
+    private static final Logger LOG = getLogger(RequestBodyBuffer.class);
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 4096;
+
+    /**
+     * The largest backing array allocated before any of the body has arrived.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024 * 1024;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * The request context, and the controller invocation.
+     */
+    private static final int REFERENCES = 2;
+
+    private static final long SPILL_THRESHOLD = getBodySpillThresholdInBytes();
+    private static final Path SPILL_DIRECTORY = getSpillDirectory();
+
+    private static final String SPILL_FILE_PREFIX = "curacao-body-";
+    private static final String SPILL_FILE_SUFFIX = ".tmp";
+
+    private final RequestBodyBufferPool pool_;
+
+    private final RequestBodyMemoryBudget budget_;
+
+    /**
+     * Whether a reservation from the memory budget may wait for memory to be returned; false for a buffer read
+     * without blocking, on a Servlet container thread.
+     */
+    private final boolean blocking_;
+
+    /**
+     * The Content-Length of the request, or -1 if unknown.
+     */
+    private final long contentLength_;
+
+    /**
+     * The maximum size of the body in bytes, or zero (or less) for no limit.
+     */
+    private final long maxLength_;
+
+    /**
+     * The size in bytes above which the body is spilled to a file, or zero (or less) to never spill.
+     */
+    private final long spillThreshold_;
+
+    /**
+     * The directory spill files are created in, or null for the default temporary-file directory.
+     */
+    private final Path spillDirectory_;
+
+    private final AtomicInteger references_;
+    private final AtomicBoolean closed_;
+
+    private byte[] buffer_;
+    private int count_;
+
+    /**
+     * Whether the backing array goes back to the pool once this buffer is released.
+     */
+    private boolean recyclable_;
+
+    /**
+     * The number of bytes reserved from the memory budget for the backing array, returned once closed.
+     */
+    private long reserved_;
+
+    /**
+     * The number of bytes reserved from the memory budget for spilled bodies read back into memory, returned once
+     * closed; atomic, as a body may be read back on one thread while the request context is closed on another.
+     */
+    private final AtomicLong readBackReserved_;
+
+    /**
+     * The file the body has been spilled to, and the channel it's written through; null if not spilled.
+     */
+    private Path spillFile_;
+    private FileChannel spillChannel_;
+
+    /**
+     * Creates a buffer for a request body of the given expected length.
+     *
+     * @param contentLength the Content-Length of the request, or -1 if unknown
+     * @param maxLength the maximum size of the body in bytes, or zero (or less) for no limit
+     * @throws RequestTooLargeException if the Content-Length already exceeds the limit
+     */
+    public RequestBodyBuffer(
+            final long contentLength,
+            final long maxLength) throws IOException {
+        this(RequestBodyBufferPool.DEFAULT, RequestBodyMemoryBudget.getInstance(), true, SPILL_THRESHOLD,
+                SPILL_DIRECTORY, contentLength, maxLength);
+    }
+
+    /* default */ RequestBodyBuffer(
+            final RequestBodyBufferPool pool,
+            final RequestBodyMemoryBudget budget,
+            final boolean blocking,
+            final long spillThreshold,
+            @Nullable final Path spillDirectory,
+            final long contentLength,
+            final long maxLength) throws IOException {
+        if (maxLength > 0L && contentLength > maxLength) {
+            throw tooLarge(contentLength, maxLength);
+        }
+        pool_ = checkNotNull(pool, "Request body buffer pool cannot be null.");
+        budget_ = checkNotNull(budget, "Request body memory budget cannot be null.");
+        blocking_ = blocking;
+        contentLength_ = contentLength;
+        maxLength_ = maxLength;
+        spillThreshold_ = spillThreshold;
+        spillDirectory_ = spillDirectory;
+        references_ = new AtomicInteger(REFERENCES);
+        closed_ = new AtomicBoolean();
+        readBackReserved_ = new AtomicLong();
+        final boolean spill = spillThreshold_ > 0L && contentLength > spillThreshold_;
+        final long initialCapacity;
+        if (contentLength < 0L) {
+            initialCapacity = (spillThreshold_ > 0L)
+                    ? Math.min(DEFAULT_INITIAL_CAPACITY, spillThreshold_)
+                    : DEFAULT_INITIAL_CAPACITY;
+        } else {
+            // A body known to be over the spill threshold goes straight to a file; the array only stages reads.
+            initialCapacity = (spill) ? DEFAULT_INITIAL_CAPACITY : Math.min(contentLength, MAX_INITIAL_CAPACITY);
+        }
+        // Reserve all the memory the pool will hand out, which may be rounded up to a larger size class, before
+        // allocating it; may wait for, or fail on, an exhausted budget.
+        final int capacity = pool_.getAcquiredSize((int) Math.min(initialCapacity, MAX_CAPACITY));
+        reserve(capacity);
+        reserved_ = capacity;
+        buffer_ = pool_.acquire(capacity);
+        recyclable_ = pool_.isPoolable(buffer_);
+        count_ = 0;
+        if (spill) {
+            try {
+                spill();
+            } catch (final IOException e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    private RequestBodyBuffer(
+            final byte[] body) {
+        pool_ = RequestBodyBufferPool.DEFAULT;
+        // Already buffered by someone else, so there's nothing to reserve.
+        budget_ = RequestBodyMemoryBudget.getInstance();
+        blocking_ = true;
+        contentLength_ = body.length;
+        maxLength_ = 0L;
+        spillThreshold_ = 0L;
+        spillDirectory_ = null;
+        references_ = new AtomicInteger(REFERENCES);
+        closed_ = new AtomicBoolean();
+        readBackReserved_ = new AtomicLong();
+        buffer_ = body;
+        count_ = body.length;
+        // Never from the pool, so there's nothing to recycle.
+        recyclable_ = false;
+    }
+
+    /**
+     * Creates a buffer for a request body of the given expected length, that is read without blocking on a
+     * Servlet container thread; the buffer never waits for memory from the budget, so as to never tie up the
+     * container thread, but fails right away if the budget is exhausted.
+     *
+     * @param contentLength the Content-Length of the request, or -1 if unknown
+     * @param maxLength the maximum size of the body in bytes, or zero (or less) for no limit
+     * @throws RequestTooLargeException if the Content-Length already exceeds the limit
+     * @throws curacao.exceptions.requests.RequestBodyMemoryBudgetExhaustedException if the budget is exhausted
+     */
+    @Nonnull
+    public static RequestBodyBuffer forNonBlockingRead(
+            final long contentLength,
+            final long maxLength) throws IOException {
+        return new RequestBodyBuffer(RequestBodyBufferPool.DEFAULT, RequestBodyMemoryBudget.getInstance(), false,
+                SPILL_THRESHOLD, SPILL_DIRECTORY, contentLength, maxLength);
+    }
+
+    /**
+     * Wraps an already buffered request body; the array is used as-is, and never recycled.
+     */
+    @Nonnull
+    public static RequestBodyBuffer wrap(
+            @Nonnull final byte[] body) {
+        checkNotNull(body, "Body cannot be null.");
+        return new RequestBodyBuffer(body);
+    }
+
+    /**
+     * Reads whatever is available from the given stream into this buffer with a single read, growing the
+     * buffer first if it's full, or spilling it to a file if it has reached the spill threshold.
+     *
+     * @return the number of bytes read, or -1 if the end of the stream has been reached
+     * @throws RequestTooLargeException if the body exceeds the limit of this buffer
+     */
+    public int readFrom(
+            final InputStream is) throws IOException {
+        if (spillChannel_ != null) {
+            // Stage the read in the array, then append it to the spill file.
+            final int read = is.read(buffer_, 0, buffer_.length);
+            if (read > 0) {
+                checkLimit((long) count_ + read);
+                final ByteBuffer staged = ByteBuffer.wrap(buffer_, 0, read);
+                while (staged.hasRemaining()) {
+                    spillChannel_.write(staged);
+                }
+                count_ += read;
+            }
+            return read;
+        }
+        if (count_ == buffer_.length) {
+            if (spillThreshold_ > 0L && count_ >= spillThreshold_) {
+                spill();
+                return readFrom(is);
+            }
+            grow();
+        }
+        final int read = is.read(buffer_, count_, buffer_.length - count_);
+        if (read > 0) {
+            checkLimit((long) count_ + read);
+            count_ += read;
+        }
+        return read;
+    }
+
+    /**
+     * Reads the given stream into this buffer until the end of the stream, or until the Content-Length of the
+     * request has been read, blocking as necessary.
+     *
+     * @throws RequestTooLargeException if the body exceeds the limit of this buffer
+     */
+    public void readFully(
+            final InputStream is) throws IOException {
+        while (contentLength_ < 0L || count_ < contentLength_) {
+            if (readFrom(is) < 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes in this buffer.
+     */
+    public int size() {
+        return count_;
+    }
+
+    /**
+     * Whether the body has been spilled to a file.
+     */
+    public boolean isSpilled() {
+        return spillFile_ != null;
+    }
+
+    /**
+     * Returns a read-only view of the buffered body, without a copy; memory-mapped from the spill file, if the
+     * body was spilled.
+     */
+    @Nonnull
+    public ByteBuffer asByteBuffer() throws IOException {
+        if (spillChannel_ != null) {
+            return spillChannel_.map(FileChannel.MapMode.READ_ONLY, 0L, count_);
+        }
+        return ByteBuffer.wrap(buffer_, 0, count_).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Hands the backing array of the buffered body to the given reader, without a copy, for parsers that read
+     * fastest from an array; unlike the view returned by {@link #asByteBuffer()}, the array is writable, so the
+     * reader must not modify it, nor hold on to it once it returns, as the array may be recycled. A spilled body is
+     * read back into memory from the spill file first, with its size reserved from the memory budget only for as
+     * long as the reader runs.
+     */
+    public <T> T readArray(
+            @Nonnull final ArrayReader<T> reader) throws Exception {
+        checkNotNull(reader, "Array reader cannot be null.");
+        if (spillFile_ != null) {
+            budget_.reserve(count_);
+            try {
+                return reader.read(Files.readAllBytes(spillFile_), 0, count_);
+            } finally {
+                budget_.release(count_);
+            }
+        }
+        return reader.read(buffer_, 0, count_);
+    }
+
+    /**
+     * Returns a stream over the buffered body, without a copy; read from the spill file, if the body was spilled.
+     */
+    @Nonnull
+    public InputStream asInputStream() throws IOException {
+        if (spillFile_ != null) {
+            return new BufferedInputStream(Files.newInputStream(spillFile_));
+        }
+        return new ByteArrayInputStream(buffer_, 0, count_);
+    }
+
+    /**
+     * Decodes the buffered body into a string using the given charset.
+     */
+    @Nonnull
+    public String toString(
+            @Nonnull final Charset charset) throws IOException {
+        if (spillFile_ != null) {
+            return new String(readBack(), charset);
+        }
+        return new String(buffer_, 0, count_, charset);
+    }
+
+    /**
+     * Returns a copy of the buffered body that the caller owns. Hands over the backing array itself, without a
+     * copy, if the body filled it exactly and it won't be recycled; e.g., when the Content-Length of the request
+     * was known up front. A spilled body is read back into memory from the spill file, with its size reserved from
+     * the memory budget until this buffer is closed.
+     */
+    @Nonnull
+    public byte[] toByteArray() throws IOException {
+        if (spillFile_ != null) {
+            return readBack();
+        }
+        return (!recyclable_ && count_ == buffer_.length) ? buffer_ : Arrays.copyOf(buffer_, count_);
+    }
+
+    /**
+     * Releases the controller invocation's reference to this buffer. Once both the request context and the
+     * controller invocation have released it, the backing array is returned to the pool, if it came from one.
+     */
+    public void release() {
+        if (references_.decrementAndGet() == 0 && recyclable_) {
+            final byte[] buffer = buffer_;
+            buffer_ = EMPTY;
+            count_ = 0;
+            recyclable_ = false;
+            pool_.recycle(buffer);
+        }
+    }
+
+    /**
+     * Releases the request context's reference to this buffer, returning its memory to the memory budget and
+     * deleting the spill file, if any, right away. Streams already opened over, and memory-mappings of, a deleted
+     * spill file stay readable on most platforms until they're closed or garbage-collected. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (!closed_.compareAndSet(false, true)) {
+            return;
+        }
+        budget_.release(reserved_ + readBackReserved_.getAndSet(0L));
+        reserved_ = 0L;
+        if (spillFile_ != null) {
+            try {
+                spillChannel_.close();
+                Files.deleteIfExists(spillFile_);
+            } catch (final IOException e) {
+                LOG.warn("Failed to delete request body spill file: {}", spillFile_, e);
+            }
+        }
+        release();
+    }
+
+    /**
+     * Returns the backing array, of which only the first {@link #size()} bytes are the body; or, if the body was
+     * spilled, a copy of the body read back from the spill file.
+     */
+    /* default */ byte[] array() throws IOException {
+        return (spillFile_ != null) ? toByteArray() : buffer_;
+    }
+
+    /**
+     * Reads a spilled body back into memory, reserving its size from the memory budget until this buffer is
+     * closed; there's no telling when the caller drops the copy any sooner. May wait for, or fail on, an exhausted
+     * budget.
+     */
+    private byte[] readBack() throws IOException {
+        budget_.reserve(count_);
+        readBackReserved_.addAndGet(count_);
+        if (closed_.get()) {
+            // Closed concurrently, possibly before the reservation above was recorded; return it here instead.
+            budget_.release(readBackReserved_.getAndSet(0L));
+        }
+        return Files.readAllBytes(spillFile_);
+    }
+
+    /**
+     * Moves what has been buffered so far to a new spill file, from which point on reads are appended to it.
+     */
+    private void spill() throws IOException {
+        final Path file = (spillDirectory_ != null)
+                ? Files.createTempFile(spillDirectory_, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX)
+                : Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+        try {
+            spillChannel_ = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final ByteBuffer buffered = ByteBuffer.wrap(buffer_, 0, count_);
+            while (buffered.hasRemaining()) {
+                spillChannel_.write(buffered);
+            }
+        } catch (final IOException e) {
+            if (spillChannel_ != null) {
+                spillChannel_.close();
+                spillChannel_ = null;
+            }
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        spillFile_ = file;
+    }
+
+    private void grow() {
+        final int capacity = buffer_.length;
+        if (capacity >= MAX_CAPACITY) {
+            throw tooLarge(capacity, MAX_CAPACITY);
+        }
+        // Never grow past the limit (plus one, to detect a body that exceeds it), or past the spill threshold;
+        // nor past the Content-Length, if the body is still short of it.
+        long newCapacity = Math.max(DEFAULT_INITIAL_CAPACITY, (long) capacity << 1);
+        if (contentLength_ > capacity) {
+            newCapacity = Math.min(newCapacity, contentLength_);
+        }
+        if (maxLength_ > 0L) {
+            newCapacity = Math.min(newCapacity, maxLength_ + 1L);
+        }
+        if (spillThreshold_ > 0L) {
+            newCapacity = Math.min(newCapacity, spillThreshold_);
+        }
+        final int grownCapacity = pool_.getAcquiredSize((int) Math.min(newCapacity, MAX_CAPACITY));
+        reserve(grownCapacity - capacity);
+        reserved_ += grownCapacity - capacity;
+        final byte[] grown = pool_.acquire(grownCapacity);
+        System.arraycopy(buffer_, 0, grown, 0, count_);
+        if (recyclable_) {
+            pool_.recycle(buffer_);
+        }
+        buffer_ = grown;
+        recyclable_ = pool_.isPoolable(grown);
+    }
+
+    private void reserve(
+            final long bytes) {
+        if (blocking_) {
+            budget_.reserve(bytes);
+        } else {
+            budget_.reserveWithoutWaiting(bytes);
+        }
+    }
+
+    private void checkLimit(
+            final long length) {
+        if (maxLength_ > 0L && length > maxLength_) {
+            throw tooLarge(length, maxLength_);
+        }
+    }
+
+    private static RequestTooLargeException tooLarge(
+            final long length,
+            final long maxLength) {
+        return new RequestTooLargeException("Incoming request body was too large to buffer: "
+                + length + "-bytes > " + maxLength + "-bytes maximum.");
+    }
+
+    @Nullable
+    private static Path getSpillDirectory() {
+        final String directory = getBodySpillDirectory();
+        return (isEmpty(directory)) ? null : Paths.get(directory);
+    }
+
+    /**
+     * Reads a buffered body from its backing array; see {@link #readArray(ArrayReader)}.
+     */
+    @FunctionalInterface
+    public interface ArrayReader<T> {
+
+        T read(
+                final byte[] array,
+                final int offset,
+                final int length) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static curacao.CuracaoConfig.getBodyBufferPoolMaxBufferSizeInBytes;
+import static curacao.CuracaoConfig.getBodyBufferPoolMaxBuffers;
+
+/**
+ * A bounded pool of byte[] arrays that request bodies are buffered into, recycled from one request to the next.
+ * <p>
+ * Arrays come in power of two size classes, from {@link #MIN_BUFFER_SIZE} up to the configured maximum buffer
+ * size; a request for a buffer is served from the smallest size class that fits. Each size class holds at most
+ * the configured number of idle arrays. When a size class is empty, a new array is allocated; when it's full,
+ * a recycled array is dropped. Buffers larger than the largest size class are never pooled.
+ */
+/* default */ final class RequestBodyBufferPool {
+
+    /* default */ static final int MIN_BUFFER_SIZE = 1024;
+
+    private static final int MIN_BUFFER_SIZE_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+    /**
+     * The pool shared by all requests, configured from the application configuration.
+     */
+    /* default */ static final RequestBodyBufferPool DEFAULT =
+            new RequestBodyBufferPool(getBodyBufferPoolMaxBuffers(), getBodyBufferPoolMaxBufferSizeInBytes());
+
+    /**
+     * One queue of idle arrays per size class, smallest first; empty if pooling is disabled.
+     */
+    private final BlockingQueue<byte[]>[] sizeClasses_;
+
+    private final int maxBufferSize_;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    /* default */ RequestBodyBufferPool(
+            final int maxBuffers,
+            final long maxBufferSize) {
+        if (maxBuffers <= 0 || maxBufferSize < MIN_BUFFER_SIZE) {
+            sizeClasses_ = new BlockingQueue[0];
+            maxBufferSize_ = 0;
+        } else {
+            final int largest = Integer.highestOneBit((int) Math.min(maxBufferSize, 1 << 30));
+            final int classes = Integer.numberOfTrailingZeros(largest) - MIN_BUFFER_SIZE_SHIFT + 1;
+            sizeClasses_ = new BlockingQueue[classes];
+            for (int i = 0; i < classes; i++) {
+                sizeClasses_[i] = new ArrayBlockingQueue<>(maxBuffers);
+            }
+            maxBufferSize_ = largest;
+        }
+    }
+
+    /**
+     * Returns an array of at least the given size; either recycled, or freshly allocated. Arrays larger than
+     * the largest size class are allocated to the exact size requested.
+     */
+    /* default */ byte[] acquire(
+            final int minSize) {
+        if (sizeClasses_.length == 0 || minSize > maxBufferSize_) {
+            return new byte[minSize];
+        }
+        final int sizeClass = getSizeClass(minSize);
+        final byte[] buffer = sizeClasses_[sizeClass].poll();
+        return (buffer != null) ? buffer : new byte[MIN_BUFFER_SIZE << sizeClass];
+    }
+
+    /**
+     * Returns the length of the array {@link #acquire(int)} hands out for the given size; rounded up to the size
+     * class that serves it, if pooled.
+     */
+    /* default */ int getAcquiredSize(
+            final int minSize) {
+        if (sizeClasses_.length == 0 || minSize > maxBufferSize_) {
+            return minSize;
+        }
+        return MIN_BUFFER_SIZE << getSizeClass(minSize);
+    }
+
+    /**
+     * Whether the given array is one that this pool could have handed out, and so can be recycled.
+     */
+    /* default */ boolean isPoolable(
+            final byte[] buffer) {
+        final int length = buffer.length;
+        return length >= MIN_BUFFER_SIZE && length <= maxBufferSize_ && Integer.bitCount(length) == 1;
+    }
+
+    /**
+     * Returns the given array to the pool. The caller must not touch the array again.
+     */
+    /* default */ void recycle(
+            final byte[] buffer) {
+        if (isPoolable(buffer)) {
+            // Drops the array on the floor if its size class is already full.
+            sizeClasses_[getSizeClass(buffer.length)].offer(buffer);
+        }
+    }
+
+    private static int getSizeClass(
+            final int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        // The smallest power of two that is greater than or equal to the given size.
+        final int ceiling = 32 - Integer.numberOfLeadingZeros(size - 1);
+        return ceiling - MIN_BUFFER_SIZE_SHIFT;
+    }
+
+}
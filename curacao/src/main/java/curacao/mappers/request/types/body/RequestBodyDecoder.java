@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+import com.google.common.net.HttpHeaders;
+import curacao.core.servlet.HttpRequest;
+import curacao.exceptions.requests.UnsupportedContentEncodingException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static curacao.CuracaoConfig.getBodyDecompressionEnabled;
+import static curacao.CuracaoConfig.getBodyDecompressionMaxDecodedSizeInBytes;
+
+/**
+ * Transparently decodes a request body sent with a {@code gzip} or {@code deflate} Content-Encoding, as it's
+ * read; every mapper that reads the request body goes through here, so controllers always see the decoded body.
+ * <p>
+ * Decoding is streaming, with inflaters taken from a pool shared by all requests, and the decoded size is
+ * enforced as the body is inflated. Any other Content-Encoding, or more than two stacked encodings, is rejected
+ * with a 415 Unsupported Media Type, per RFC 7231, section 3.1.2.2.
+ * <p>
+ * Disabled by default: when enabled, bodies with any other Content-Encoding no longer reach controllers that
+ * decode them on their own, and encoded bodies are capped at the configured maximum decoded size.
+ */
+public final class RequestBodyDecoder {
+
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String DEFLATE = "deflate";
+
+    /**
+     * The most encodings a body may be stacked with; each one is undone by its own inflater.
+     */
+    private static final int MAX_ENCODINGS = 2;
+
+    private static final Splitter ENCODING_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private static final boolean ENABLED = getBodyDecompressionEnabled();
+
+    /**
+     * The maximum decoded size of a body, where the caller imposes no limit of its own.
+     */
+    private static final long DEFAULT_MAX_DECODED_SIZE_BYTES = getBodyDecompressionMaxDecodedSizeInBytes();
+
+    // Cannot instantiate
+    private RequestBodyDecoder() {
+    }
+
+    /**
+     * Whether the body of the request is encoded, and so will be decoded as it's read.
+     */
+    public static boolean isEncoded(
+            @Nonnull final HttpRequest request) {
+        checkNotNull(request, "HTTP request cannot be null.");
+        return isEncoded(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Whether a body sent with the given Content-Encoding will be decoded as it's read.
+     *
+     * @param contentEncoding the Content-Encoding header of the request, if any
+     */
+    public static boolean isEncoded(
+            @Nullable final String contentEncoding) {
+        if (!ENABLED || contentEncoding == null) {
+            return false;
+        }
+        for (final String encoding : ENCODING_SPLITTER.split(contentEncoding)) {
+            if (!IDENTITY.equalsIgnoreCase(encoding)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wraps the given request body input stream with one that decodes it as it's read, per the Content-Encoding
+     * of the request; returns the input stream as is if the body is not encoded.
+     *
+     * @param maxDecodedSize the maximum decoded size of the body, or zero (or less) for the configured default
+     * @throws UnsupportedContentEncodingException if the body is encoded with anything but gzip or deflate, or
+     * with more than two encodings
+     */
+    @Nonnull
+    public static InputStream decode(
+            @Nonnull final HttpRequest request,
+            @Nonnull final InputStream input,
+            final long maxDecodedSize) {
+        checkNotNull(request, "HTTP request cannot be null.");
+        checkNotNull(input, "Input stream cannot be null.");
+        final String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (!isEncoded(contentEncoding)) {
+            return input;
+        }
+        final long maxSize = (maxDecodedSize > 0L) ? maxDecodedSize : DEFAULT_MAX_DECODED_SIZE_BYTES;
+        // Encodings are listed in the order they were applied, so are undone in reverse.
+        final List<String> encodings = Lists.reverse(ENCODING_SPLITTER.splitToList(contentEncoding));
+        if (encodings.stream().filter(e -> !IDENTITY.equalsIgnoreCase(e)).count() > MAX_ENCODINGS) {
+            throw new UnsupportedContentEncodingException("Too many request body Content-Encodings: "
+                    + contentEncoding);
+        }
+        InputStream decoded = input;
+        for (final String encoding : encodings) {
+            final String normalized = encoding.toLowerCase(Locale.ROOT);
+            if (IDENTITY.equals(normalized)) {
+                continue;
+            } else if (GZIP.equals(normalized) || X_GZIP.equals(normalized)) {
+                decoded = new InflatingInputStream(decoded, InflatingInputStream.Format.GZIP, InflaterPool.DEFAULT,
+                        maxSize);
+            } else if (DEFLATE.equals(normalized)) {
+                decoded = new InflatingInputStream(decoded, InflatingInputStream.Format.DEFLATE,
+                        InflaterPool.DEFAULT, maxSize);
+            } else {
+                throw new UnsupportedContentEncodingException("Unsupported request body Content-Encoding: "
+                        + encoding);
+            }
+        }
+        return decoded;
+    }
+
+}
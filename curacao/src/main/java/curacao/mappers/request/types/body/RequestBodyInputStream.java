@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import curacao.core.servlet.HttpRequest;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import javax.annotation.Nonnull;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The request body, read straight from the request rather than buffered, that fails with a 413 Request Entity
+ * Too Large as soon as more of the body is read than the given limit allows; unlike a stream that is merely
+ * truncated at the limit, a consumer can never mistake the first part of an oversized body for the whole body.
+ * <p>
+ * For mappers that parse the body as it arrives, e.g., straight from the request bytes into an object.
+ */
+public final class RequestBodyInputStream extends FilterInputStream {
+
+    /**
+     * The maximum size of the body in bytes, or zero (or less) for no limit.
+     */
+    private final long maxLength_;
+
+    private long count_;
+
+    private RequestBodyInputStream(
+            final InputStream input,
+            final long maxLength) {
+        super(input);
+        maxLength_ = maxLength;
+    }
+
+    /**
+     * Opens the body of the given request, decoded per its Content-Encoding (see {@link RequestBodyDecoder}), and
+     * limited to the given (decoded) size. Fails right away if the Content-Length of an unencoded body alone is
+     * over the limit.
+     *
+     * @param maxLength the maximum size of the body in bytes, or zero (or less) for no limit
+     */
+    @Nonnull
+    public static RequestBodyInputStream open(
+            @Nonnull final HttpRequest request,
+            final long maxLength) throws IOException {
+        checkNotNull(request, "HTTP request cannot be null.");
+        final boolean encoded = RequestBodyDecoder.isEncoded(request);
+        final long contentLength = request.getContentLengthLong();
+        if (!encoded && maxLength > 0L && contentLength > maxLength) {
+            throw tooLarge(contentLength, maxLength);
+        }
+        final InputStream input = RequestBodyDecoder.decode(request, request.getInputStream(), maxLength);
+        return new RequestBodyInputStream(input, maxLength);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            count(1L);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(
+            final byte[] b,
+            final int off,
+            final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(
+            final long n) throws IOException {
+        final long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(
+            final long read) {
+        count_ += read;
+        if (maxLength_ > 0L && count_ > maxLength_) {
+            throw tooLarge(count_, maxLength_);
+        }
+    }
+
+    private static RequestTooLargeException tooLarge(
+            final long length,
+            final long maxLength) {
+        return new RequestTooLargeException("Incoming request body was too large: "
+                + length + "-bytes > " + maxLength + "-bytes maximum.");
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.body;
+
+import curacao.exceptions.requests.RequestBodyMemoryBudgetExhaustedException;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static curacao.CuracaoConfig.getBodyMemoryBudgetMaxSizeInBytes;
+import static curacao.CuracaoConfig.getBodyMemoryBudgetMaxWaitMs;
+
+/**
+ * A process-wide budget of heap memory that request bodies in flight may be buffered into, shared by all
+ * requests. Memory is reserved from the budget before a request body buffer allocates it (up front from the
+ * Content-Length when known, or incrementally as the buffer grows), and returned to the budget once the request
+ * completes.
+ * <p>
+ * When the budget is exhausted, a reservation waits up to the configured maximum wait for memory to be returned,
+ * then fails the request with a 503 Service Unavailable; a reservation for a body read without blocking, on a
+ * Servlet container thread, fails with a 503 right away instead. A reservation that could never fit into the
+ * budget fails right away with a 413 Request Entity Too Large.
+ */
+public final class RequestBodyMemoryBudget {
+
+    private static final RequestBodyMemoryBudget INSTANCE =
+            new RequestBodyMemoryBudget(getBodyMemoryBudgetMaxSizeInBytes(), getBodyMemoryBudgetMaxWaitMs());
+
+    /**
+     * The size of the budget in bytes, or zero (or less) for no budget.
+     */
+    private final long maxSize_;
+
+    private final long maxWaitNanos_;
+
+    private final AtomicLong reserved_;
+    private final LongAdder rejected_;
+
+    private final ReentrantLock lock_;
+    private final Condition released_;
+
+    /* default */ RequestBodyMemoryBudget(
+            final long maxSize,
+            final long maxWaitMs) {
+        maxSize_ = maxSize;
+        maxWaitNanos_ = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, maxWaitMs));
+        reserved_ = new AtomicLong();
+        rejected_ = new LongAdder();
+        lock_ = new ReentrantLock();
+        released_ = lock_.newCondition();
+    }
+
+    /**
+     * Returns the budget shared by all requests, configured from the application configuration.
+     */
+    public static RequestBodyMemoryBudget getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the size of the budget in bytes, or zero (or less) if there is no budget.
+     */
+    public long getMaxSize() {
+        return maxSize_;
+    }
+
+    /**
+     * Returns the number of bytes currently reserved by request bodies in flight.
+     */
+    public long getReserved() {
+        return reserved_.get();
+    }
+
+    /**
+     * Returns the number of reservations turned away since startup, because the budget was exhausted.
+     */
+    public long getRejected() {
+        return rejected_.sum();
+    }
+
+    /**
+     * Reserves the given number of bytes from the budget, waiting up to the configured maximum wait for enough
+     * memory to be returned if need be. Every successful reservation must eventually be released.
+     *
+     * @throws RequestTooLargeException if the reservation could never fit into the budget
+     * @throws RequestBodyMemoryBudgetExhaustedException if the budget remained exhausted for the maximum wait
+     */
+    /* default */ void reserve(
+            final long bytes) {
+        reserve(bytes, maxWaitNanos_);
+    }
+
+    /**
+     * Reserves the given number of bytes from the budget without waiting; for threads that must never block,
+     * e.g., a Servlet container thread reading a body without blocking. Every successful reservation must
+     * eventually be released.
+     *
+     * @throws RequestTooLargeException if the reservation could never fit into the budget
+     * @throws RequestBodyMemoryBudgetExhaustedException if the budget is exhausted
+     */
+    /* default */ void reserveWithoutWaiting(
+            final long bytes) {
+        reserve(bytes, 0L);
+    }
+
+    /**
+     * Returns the given number of previously reserved bytes to the budget, waking up any reservations waiting
+     * for memory.
+     */
+    /* default */ void release(
+            final long bytes) {
+        if (maxSize_ <= 0L || bytes <= 0L) {
+            return;
+        }
+        reserved_.addAndGet(-bytes);
+        lock_.lock();
+        try {
+            released_.signalAll();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private void reserve(
+            final long bytes,
+            final long maxWaitNanos) {
+        if (maxSize_ <= 0L || bytes <= 0L) {
+            return;
+        }
+        if (bytes > maxSize_) {
+            rejected_.increment();
+            throw new RequestTooLargeException("Incoming request body was too large to fit into the request "
+                    + "body memory budget: " + bytes + "-bytes > " + maxSize_ + "-bytes maximum.");
+        }
+        if (tryReserve(bytes)) {
+            return;
+        }
+        if (maxWaitNanos <= 0L) {
+            rejected_.increment();
+            throw exhausted(bytes);
+        }
+        long remaining = maxWaitNanos;
+        lock_.lock();
+        try {
+            while (!tryReserve(bytes)) {
+                if (remaining <= 0L) {
+                    rejected_.increment();
+                    throw exhausted(bytes);
+                }
+                remaining = released_.awaitNanos(remaining);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected_.increment();
+            throw new RequestBodyMemoryBudgetExhaustedException("Interrupted while waiting for request body "
+                    + "memory budget.", e);
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private boolean tryReserve(
+            final long bytes) {
+        while (true) {
+            final long reserved = reserved_.get();
+            if (reserved + bytes > maxSize_) {
+                return false;
+            }
+            if (reserved_.compareAndSet(reserved, reserved + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    private RequestBodyMemoryBudgetExhaustedException exhausted(
+            final long bytes) {
+        return new RequestBodyMemoryBudgetExhaustedException("Request body memory budget exhausted: could not "
+                + "reserve " + bytes + "-bytes (reserved=" + reserved_.get() + ", max=" + maxSize_ + ").");
+    }
+
+}
@@ -28,11 +28,21 @@ package curacao.mappers.request.types.body;
 
 import com.google.common.collect.Multimap;
 import curacao.annotations.parameters.RequestBody;
+import curacao.util.http.FormParameters;
 
 import static com.google.common.collect.Iterables.getFirst;
 
 public final class RequestBodyParameterMapper extends AbstractEncodedRequestBodyMapper<String> {
 
+    @Override
+    public String resolveWithParameters(
+            final RequestBody annotation,
+            final FormParameters parameters) throws Exception {
+        final String value = annotation.value();
+        // Only the requested parameter is decoded; the rest of the body is left as-is.
+        return ("".equals(value)) ? null : parameters.getFirst(value);
+    }
+
     @Override
     public String resolveWithMultimap(
             final RequestBody annotation,
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.multipart;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A single part of a {@code multipart/form-data} request body.
+ * <p>
+ * The headers of the part are read up front, but its content is not; the content is streamed straight from the
+ * request, and so can only be read once, and only until the next part is asked for from the
+ * {@link MultipartRequest} this part came from. To hold on to the content of a part, save it with
+ * {@link #saveToTempFile()}, or copy it elsewhere with {@link #transferTo(OutputStream)}.
+ */
+public final class MultipartPart {
+
+    private static final String FORM_DATA = "form-data";
+    private static final String NAME_PARAMETER = "name";
+    private static final String FILENAME_PARAMETER = "filename";
+
+    private static final char PARAMETER_SEPARATOR = ';';
+    private static final char VALUE_SEPARATOR = '=';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    private final MultipartRequest request_;
+
+    private final Map<String, String> headers_;
+
+    private final InputStream content_;
+
+    private final String name_;
+    private final String fileName_;
+
+    /* default */ MultipartPart(
+            @Nonnull final MultipartRequest request,
+            @Nonnull final Map<String, String> headers,
+            @Nonnull final InputStream content) {
+        request_ = checkNotNull(request, "Multipart request cannot be null.");
+        headers_ = checkNotNull(headers, "Part headers cannot be null.");
+        content_ = checkNotNull(content, "Part content cannot be null.");
+        final Map<String, String> disposition =
+                parseContentDisposition(headers_.get(HttpHeaders.CONTENT_DISPOSITION));
+        name_ = disposition.getOrDefault(NAME_PARAMETER, "");
+        fileName_ = disposition.get(FILENAME_PARAMETER);
+    }
+
+    /**
+     * Get the name of the form field this part is the value of.
+     */
+    @Nonnull
+    public String getName() {
+        return name_;
+    }
+
+    /**
+     * Get the name of the uploaded file, as given by the client, if this part is a file.
+     *
+     * @return the file name, or null if this part is not a file
+     */
+    @Nullable
+    public String getFileName() {
+        return fileName_;
+    }
+
+    /**
+     * Whether this part is an uploaded file, as opposed to a plain form field.
+     */
+    public boolean isFile() {
+        return fileName_ != null;
+    }
+
+    /**
+     * Get the Content-Type of this part, if one was given.
+     *
+     * @return the Content-Type, or null if none was given
+     */
+    @Nullable
+    public String getContentType() {
+        return headers_.get(HttpHeaders.CONTENT_TYPE);
+    }
+
+    /**
+     * Get the value of the given header of this part; header names are case-insensitive.
+     *
+     * @return the header value, or null if this part has no such header
+     */
+    @Nullable
+    public String getHeader(
+            @Nonnull final String name) {
+        return headers_.get(name);
+    }
+
+    @Nonnull
+    public Map<String, String> getHeaders() {
+        return ImmutableMap.copyOf(headers_);
+    }
+
+    /**
+     * Get the content of this part, streamed from the request. Only valid until the next part is asked for.
+     */
+    @Nonnull
+    public InputStream getInputStream() {
+        return content_;
+    }
+
+    /**
+     * Copies the (remaining) content of this part to the given sink, without buffering it in memory.
+     *
+     * @return the number of bytes copied
+     */
+    public long transferTo(
+            @Nonnull final OutputStream sink) throws IOException {
+        checkNotNull(sink, "Sink cannot be null.");
+        return ByteStreams.copy(content_, sink);
+    }
+
+    /**
+     * Saves the (remaining) content of this part to a temporary file, without buffering it in memory. The file
+     * is deleted once the request completes; move it elsewhere to keep it.
+     *
+     * @return the path of the temporary file
+     */
+    @Nonnull
+    public Path saveToTempFile() throws IOException {
+        final Path file = request_.createTempFile();
+        Files.copy(content_, file, StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    /**
+     * Reads the (remaining) content of this part into a String, decoded with the charset given in the
+     * Content-Type of this part, or UTF-8 if none was given. Meant for plain form fields; the content is held
+     * in memory, bounded only by the maximum part size.
+     */
+    @Nonnull
+    public String getString() throws IOException {
+        return getString(getCharset());
+    }
+
+    /**
+     * Reads the (remaining) content of this part into a String, decoded with the given charset.
+     */
+    @Nonnull
+    public String getString(
+            @Nonnull final Charset charset) throws IOException {
+        checkNotNull(charset, "Charset cannot be null.");
+        return new String(ByteStreams.toByteArray(content_), charset);
+    }
+
+    @Override
+    public String toString() {
+        return "MultipartPart{name=" + name_ + ", fileName=" + fileName_ + "}";
+    }
+
+    private Charset getCharset() {
+        final String contentType = getContentType();
+        if (contentType != null) {
+            try {
+                return MediaType.parse(contentType).charset().or(StandardCharsets.UTF_8);
+            } catch (final IllegalArgumentException e) {
+                // Unparseable Content-Type, or unsupported charset; fall through to the default.
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Parses the parameters of a {@code form-data} Content-Disposition header; parameter names are lower-cased,
+     * values are unquoted. Returns an empty map if the header is missing, or not {@code form-data}.
+     */
+    private static Map<String, String> parseContentDisposition(
+            @Nullable final String header) {
+        if (header == null) {
+            return ImmutableMap.of();
+        }
+        final int length = header.length();
+        int i = header.indexOf(PARAMETER_SEPARATOR);
+        final String type = ((i < 0) ? header : header.substring(0, i)).trim();
+        if (i < 0 || !FORM_DATA.equalsIgnoreCase(type)) {
+            return ImmutableMap.of();
+        }
+        final ImmutableMap.Builder<String, String> parameters = ImmutableMap.builder();
+        while (i < length) {
+            // Just past the separator that precedes this parameter.
+            final int nameStart = i + 1;
+            final int equals = header.indexOf(VALUE_SEPARATOR, nameStart);
+            if (equals < 0) {
+                break;
+            }
+            final String name = header.substring(nameStart, equals).trim().toLowerCase(Locale.ROOT);
+            final StringBuilder value = new StringBuilder();
+            i = equals + 1;
+            while (i < length && header.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < length && header.charAt(i) == QUOTE) {
+                // A quoted string, in which a backslash escapes the character that follows it.
+                i++;
+                while (i < length && header.charAt(i) != QUOTE) {
+                    final char c = header.charAt(i);
+                    if (c == ESCAPE && i + 1 < length) {
+                        value.append(header.charAt(++i));
+                    } else {
+                        value.append(c);
+                    }
+                    i++;
+                }
+                // Skip ahead to the next separator, past the closing quote.
+                i = header.indexOf(PARAMETER_SEPARATOR, i);
+            } else {
+                final int end = header.indexOf(PARAMETER_SEPARATOR, i);
+                value.append(header, i, (end < 0) ? length : end);
+                i = end;
+            }
+            parameters.put(name, value.toString().trim());
+            if (i < 0) {
+                break;
+            }
+        }
+        return parameters.buildKeepingLast();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.multipart;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * A {@code multipart/form-data} request body, parsed lazily as it's read from the request: each call to
+ * {@link #nextPart()} reads only as far as the headers of the next part, and the content of each part is
+ * streamed to the caller. The body is never buffered as a whole; memory use is bounded by a fixed size lookahead
+ * buffer, no matter how large the upload.
+ * <p>
+ * Parts can only be visited once, in order. Any temporary files that parts were saved to are deleted once the
+ * request completes, when this request is closed by the context it's attached to.
+ * <p>
+ * Not thread safe.
+ */
+public final class MultipartRequest implements Closeable {
+
+    private static final Logger LOG = getLogger(MultipartRequest.class);
+
+    private static final String TEMP_FILE_PREFIX = "curacao-part-";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final MultipartStream stream_;
+
+    /**
+     * The directory temporary files are created in, or null for the default temporary-file directory.
+     */
+    private final Path tempDirectory_;
+
+    /**
+     * Temporary files the content of parts has been saved to, to be deleted on close.
+     */
+    private final List<Path> tempFiles_;
+
+    private boolean closed_ = false;
+
+    /* default */ MultipartRequest(
+            @Nonnull final InputStream input,
+            @Nonnull final String boundary,
+            @Nullable final Path tempDirectory,
+            final long maxParts,
+            final long maxPartSize,
+            final long maxTotalSize,
+            final int maxPartHeaderSize) {
+        checkNotNull(input, "Input stream cannot be null.");
+        checkNotNull(boundary, "Boundary cannot be null.");
+        stream_ = new MultipartStream(input, boundary, maxParts, maxPartSize, maxTotalSize, maxPartHeaderSize);
+        tempDirectory_ = tempDirectory;
+        tempFiles_ = Lists.newArrayList();
+    }
+
+    /**
+     * Reads up to the next part of the body, skipping whatever is left of the current one.
+     *
+     * @return the next part, or null if there are no more parts
+     */
+    @Nullable
+    public MultipartPart nextPart() throws IOException {
+        if (closed_) {
+            throw new IOException("Multipart request already closed.");
+        }
+        final Map<String, String> headers = stream_.nextPart();
+        if (headers == null) {
+            return null;
+        }
+        return new MultipartPart(this, headers, stream_.getPartInputStream());
+    }
+
+    /**
+     * Creates a temporary file that is deleted when this request is closed.
+     */
+    /* default */ Path createTempFile() throws IOException {
+        final Path file = (tempDirectory_ != null)
+                ? Files.createTempFile(tempDirectory_, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX)
+                : Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        tempFiles_.add(file);
+        return file;
+    }
+
+    /**
+     * Deletes any temporary files the content of parts has been saved to. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (closed_) {
+            return;
+        }
+        closed_ = true;
+        for (final Path file : tempFiles_) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOG.warn("Failed to delete multipart temporary file: {}", file, e);
+            }
+        }
+        tempFiles_.clear();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.multipart;
+
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
+import curacao.context.CuracaoContext;
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.mappers.request.AbstractControllerArgumentMapper;
+import curacao.mappers.request.types.body.RequestBodyBuffer;
+import curacao.mappers.request.types.body.RequestBodyDecoder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static curacao.CuracaoConfig.getBodySpillDirectory;
+import static curacao.CuracaoConfig.getMultipartMaxPartHeaderSizeInBytes;
+import static curacao.CuracaoConfig.getMultipartMaxPartSizeInBytes;
+import static curacao.CuracaoConfig.getMultipartMaxParts;
+import static curacao.CuracaoConfig.getMultipartMaxTotalSizeInBytes;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Maps a {@code multipart/form-data} request body to a {@link MultipartRequest}, that parses the body as the
+ * controller walks its parts. Resolves to null if the request is not {@code multipart/form-data}.
+ * <p>
+ * The body is read straight from the request, unless it has already been buffered (e.g., by the dispatcher, for
+ * a request body argument of the same controller method), in which case it's parsed from the buffer.
+ */
+public final class MultipartRequestMapper extends AbstractControllerArgumentMapper<MultipartRequest> {
+
+    private static final String BOUNDARY_PARAMETER = "boundary";
+
+    private static final long MAX_PARTS = getMultipartMaxParts();
+    private static final long MAX_PART_SIZE_BYTES = getMultipartMaxPartSizeInBytes();
+    private static final long MAX_TOTAL_SIZE_BYTES = getMultipartMaxTotalSizeInBytes();
+    private static final int MAX_PART_HEADER_SIZE_BYTES = getMultipartMaxPartHeaderSizeInBytes();
+
+    @Nullable
+    private static final Path TEMP_DIRECTORY = getTempDirectory();
+
+    @Override
+    public MultipartRequest resolve(
+            @Nullable final Annotation annotation,
+            @Nonnull final CuracaoContext ctx) throws Exception {
+        // The body can only be parsed once; every argument of the same controller method gets the same request.
+        final MultipartRequest existing = CuracaoContext.Extensions.getMultipartRequest(ctx);
+        if (existing != null) {
+            return existing;
+        }
+        final String contentType = ctx.getRequest().getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return null;
+        }
+        final MediaType mediaType;
+        try {
+            mediaType = MediaType.parse(contentType);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+        if (!mediaType.is(MediaType.create("multipart", "form-data"))) {
+            return null;
+        }
+        final String boundary = mediaType.parameters().get(BOUNDARY_PARAMETER).stream().findFirst()
+                .orElseThrow(() -> new MalformedRequestBodyException("Multipart request has no boundary: "
+                        + contentType));
+        final RequestBodyBuffer bodyBuffer = CuracaoContext.Extensions.getBodyBuffer(ctx);
+        // Never closed here; the Servlet container closes the request input stream once the request completes.
+        // A buffered body has already been decoded.
+        final InputStream input = (bodyBuffer != null)
+                ? bodyBuffer.asInputStream()
+                : RequestBodyDecoder.decode(ctx.getRequest(), ctx.getRequest().getInputStream(),
+                        MAX_TOTAL_SIZE_BYTES);
+        final MultipartRequest multipart = new MultipartRequest(input, boundary, TEMP_DIRECTORY, MAX_PARTS,
+                MAX_PART_SIZE_BYTES, MAX_TOTAL_SIZE_BYTES, MAX_PART_HEADER_SIZE_BYTES);
+        // Attached to the context, which deletes any temporary files once the request completes.
+        CuracaoContext.Extensions.setMultipartRequest(ctx, multipart);
+        return multipart;
+    }
+
+    @Nullable
+    private static Path getTempDirectory() {
+        final String directory = getBodySpillDirectory();
+        return (isEmpty(directory)) ? null : Paths.get(directory);
+    }
+
+}
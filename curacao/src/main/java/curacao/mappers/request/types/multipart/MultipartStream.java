@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.mappers.request.types.multipart;
+
+import curacao.exceptions.requests.MalformedRequestBodyException;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A streaming parser of a {@code multipart/form-data} body (RFC 7578), that reads the body straight from the
+ * request through a fixed size lookahead buffer, no matter how large the body or any of its parts.
+ * <p>
+ * The content of each part is handed out as a stream that ends at the next boundary; the boundary is found by
+ * scanning the lookahead buffer, holding back only as many trailing bytes as could be the start of a boundary
+ * split across two reads. Moving on to the next part skips whatever is left of the current one.
+ * <p>
+ * Not thread safe.
+ */
+/* default */ final class MultipartStream {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+    private static final byte SPACE = ' ';
+    private static final byte TAB = '\t';
+
+    private static final int MIN_BUFFER_SIZE = 8192;
+
+    /**
+     * Per RFC 2046, a boundary is at most 70 characters.
+     */
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private static final char HEADER_SEPARATOR = ':';
+
+    private final InputStream input_;
+
+    /**
+     * The CRLF, two dashes, and the boundary that precede every part, and the end of the body.
+     */
+    private final byte[] delimiter_;
+
+    private final long maxParts_;
+    private final long maxPartSize_;
+    private final long maxTotalSize_;
+    private final int maxPartHeaderSize_;
+
+    /**
+     * The lookahead buffer; the unread bytes are those from the head (inclusive) to the tail (exclusive).
+     */
+    private final byte[] buffer_;
+    private int head_;
+    private int tail_;
+    private boolean eof_;
+
+    /**
+     * Where the delimiter was last found in the buffer, or -1; and the offset before which the delimiter is known
+     * not to start. Both are kept between searches, so the unread bytes are only ever scanned once, and adjusted
+     * as the buffer is compacted.
+     */
+    private int delimiterAt_ = -1;
+    private int searchedTo_ = 0;
+
+    /**
+     * Reused by {@link PartInputStream#read()}, so reading one byte at a time doesn't allocate.
+     */
+    private final byte[] single_ = new byte[1];
+
+    private long totalSize_;
+    private int parts_;
+
+    /**
+     * The content of the current part, or of the preamble before the first part.
+     */
+    private PartInputStream current_;
+
+    /**
+     * Set once the closing delimiter has been read.
+     */
+    private boolean finished_;
+
+    /* default */ MultipartStream(
+            @Nonnull final InputStream input,
+            @Nonnull final String boundary,
+            final long maxParts,
+            final long maxPartSize,
+            final long maxTotalSize,
+            final int maxPartHeaderSize) {
+        input_ = checkNotNull(input, "Input stream cannot be null.");
+        checkNotNull(boundary, "Boundary cannot be null.");
+        if (boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH) {
+            throw new MalformedRequestBodyException("Invalid multipart boundary: " + boundary);
+        }
+        final byte[] boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+        delimiter_ = new byte[boundaryBytes.length + 4];
+        delimiter_[0] = CR;
+        delimiter_[1] = LF;
+        delimiter_[2] = DASH;
+        delimiter_[3] = DASH;
+        System.arraycopy(boundaryBytes, 0, delimiter_, 4, boundaryBytes.length);
+        maxParts_ = maxParts;
+        maxPartSize_ = maxPartSize;
+        maxTotalSize_ = maxTotalSize;
+        maxPartHeaderSize_ = maxPartHeaderSize;
+        buffer_ = new byte[Math.max(MIN_BUFFER_SIZE, maxPartHeaderSize + 2)];
+        // Pretend the body starts with a CRLF, so the first boundary, which usually starts the body, is found
+        // like any other.
+        buffer_[0] = CR;
+        buffer_[1] = LF;
+        head_ = 0;
+        tail_ = 2;
+        // Anything before the first boundary is a preamble, to be skipped.
+        current_ = new PartInputStream(0L);
+    }
+
+    /**
+     * Skips the rest of the current part, if any, and reads the headers of the next one.
+     *
+     * @return the headers of the next part, keyed case-insensitively, or null if there are no more parts
+     */
+    @Nullable
+    /* default */ Map<String, String> nextPart() throws IOException {
+        if (finished_) {
+            return null;
+        }
+        current_.skipRemaining();
+        // Right after a delimiter; two dashes mark the end of the body, anything after which is ignored.
+        ensure(2);
+        if (buffer_[head_] == DASH && buffer_[head_ + 1] == DASH) {
+            finished_ = true;
+            return null;
+        }
+        // Skip any transport padding, then the CRLF that ends the boundary line.
+        while (true) {
+            ensure(1);
+            if (buffer_[head_] != SPACE && buffer_[head_] != TAB) {
+                break;
+            }
+            head_++;
+        }
+        ensure(2);
+        if (buffer_[head_] != CR || buffer_[head_ + 1] != LF) {
+            throw new MalformedRequestBodyException("Malformed multipart body: boundary not followed by CRLF.");
+        }
+        head_ += 2;
+        if (maxParts_ > 0L && ++parts_ > maxParts_) {
+            throw new RequestTooLargeException("Incoming multipart request body has too many parts: more than "
+                    + maxParts_ + " maximum.");
+        }
+        final Map<String, String> headers = readHeaders();
+        current_ = new PartInputStream(maxPartSize_);
+        return headers;
+    }
+
+    /**
+     * Returns the content of the current part; ends at the next boundary.
+     */
+    @Nonnull
+    /* default */ InputStream getPartInputStream() {
+        return current_;
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int headerSize = 0;
+        while (true) {
+            final int lineEnd = findLineEnd();
+            final int lineLength = lineEnd - head_;
+            headerSize += lineLength + 2;
+            if (maxPartHeaderSize_ > 0 && headerSize > maxPartHeaderSize_) {
+                throw partHeadersTooLarge();
+            }
+            if (lineLength == 0) {
+                // The empty line that ends the headers.
+                head_ += 2;
+                return headers;
+            }
+            final String line = new String(buffer_, head_, lineLength, StandardCharsets.UTF_8);
+            head_ = lineEnd + 2;
+            final int separator = line.indexOf(HEADER_SEPARATOR);
+            if (separator <= 0) {
+                throw new MalformedRequestBodyException("Malformed multipart body: invalid part header: " + line);
+            }
+            // Keeps the first of any repeated header.
+            headers.putIfAbsent(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+        }
+    }
+
+    /**
+     * Returns the offset of the CRLF that ends the line starting at the head of the buffer, reading more of the
+     * body as needed.
+     */
+    private int findLineEnd() throws IOException {
+        int from = head_;
+        while (true) {
+            for (int i = from; i < tail_ - 1; i++) {
+                if (buffer_[i] == CR && buffer_[i + 1] == LF) {
+                    return i;
+                }
+            }
+            from = Math.max(head_, tail_ - 1);
+            if (head_ == 0 && tail_ == buffer_.length) {
+                // A single line that doesn't fit into the buffer.
+                throw partHeadersTooLarge();
+            }
+            final int shift = head_;
+            if (!fill()) {
+                throw unexpectedEnd();
+            }
+            from -= shift;
+        }
+    }
+
+    /**
+     * Makes sure at least the given number of unread bytes are in the buffer.
+     */
+    private void ensure(
+            final int count) throws IOException {
+        while (tail_ - head_ < count) {
+            if (!fill()) {
+                throw unexpectedEnd();
+            }
+        }
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, and reads as much of the body as fits after them.
+     *
+     * @return false if the end of the body has been reached
+     */
+    private boolean fill() throws IOException {
+        if (eof_) {
+            return false;
+        }
+        if (head_ > 0) {
+            System.arraycopy(buffer_, head_, buffer_, 0, tail_ - head_);
+            tail_ -= head_;
+            delimiterAt_ = (delimiterAt_ >= head_) ? delimiterAt_ - head_ : -1;
+            searchedTo_ = Math.max(0, searchedTo_ - head_);
+            head_ = 0;
+        }
+        final int read = input_.read(buffer_, tail_, buffer_.length - tail_);
+        if (read < 0) {
+            eof_ = true;
+            return false;
+        }
+        totalSize_ += read;
+        if (maxTotalSize_ > 0L && totalSize_ > maxTotalSize_) {
+            throw new RequestTooLargeException("Incoming multipart request body was too large: more than "
+                    + maxTotalSize_ + "-bytes maximum.");
+        }
+        tail_ += read;
+        return true;
+    }
+
+    /**
+     * Returns the offset of the delimiter in the unread bytes of the buffer, or -1 if it's not (yet) there. Picks
+     * up where the previous search left off.
+     */
+    private int findDelimiter() {
+        if (delimiterAt_ >= head_) {
+            return delimiterAt_;
+        }
+        final byte first = delimiter_[0];
+        final int from = Math.max(head_, searchedTo_);
+        final int last = tail_ - delimiter_.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            if (buffer_[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < delimiter_.length; j++) {
+                if (buffer_[i + j] != delimiter_[j]) {
+                    continue outer;
+                }
+            }
+            delimiterAt_ = i;
+            searchedTo_ = i;
+            return i;
+        }
+        // What's left could be the start of a delimiter split across reads, so is searched again once filled.
+        searchedTo_ = Math.max(from, last + 1);
+        return -1;
+    }
+
+    private RequestTooLargeException partHeadersTooLarge() {
+        return new RequestTooLargeException("Incoming multipart request body has part headers that are too "
+                + "large: more than " + maxPartHeaderSize_ + "-bytes maximum.");
+    }
+
+    private static MalformedRequestBodyException unexpectedEnd() {
+        return new MalformedRequestBodyException("Malformed multipart body: unexpected end of body.");
+    }
+
+    /**
+     * The content of a single part, up to (but excluding) the delimiter that follows it.
+     */
+    private final class PartInputStream extends InputStream {
+
+        /**
+         * The maximum size of the part, or zero (or less) for no limit.
+         */
+        private final long maxSize_;
+
+        private long size_;
+
+        /**
+         * Set once the delimiter that ends this part has been reached and consumed.
+         */
+        private boolean done_;
+
+        private PartInputStream(
+                final long maxSize) {
+            maxSize_ = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return (read(single_, 0, 1) < 0) ? -1 : (single_[0] & 0xFF);
+        }
+
+        @Override
+        public int read(
+                final byte[] b,
+                final int off,
+                final int len) throws IOException {
+            if (done_) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int available = available();
+            while (available == 0) {
+                if (done_) {
+                    return -1;
+                }
+                if (!fill()) {
+                    throw unexpectedEnd();
+                }
+                available = available();
+            }
+            final int read = Math.min(len, available);
+            System.arraycopy(buffer_, head_, b, off, read);
+            head_ += read;
+            size_ += read;
+            if (maxSize_ > 0L && size_ > maxSize_) {
+                throw new RequestTooLargeException("Incoming multipart request body has a part that is too "
+                        + "large: more than " + maxSize_ + "-bytes maximum.");
+            }
+            return read;
+        }
+
+        /**
+         * Returns the number of bytes of this part in the buffer that can be read right away; consumes the
+         * delimiter, and marks this part as done, if it's at the head of the buffer.
+         */
+        @Override
+        public int available() {
+            if (done_) {
+                return 0;
+            }
+            final int delimiter = findDelimiter();
+            if (delimiter == head_) {
+                head_ += delimiter_.length;
+                done_ = true;
+                return 0;
+            } else if (delimiter >= 0) {
+                return delimiter - head_;
+            }
+            // Hold back what could be the start of a delimiter split across reads.
+            return Math.max(0, (tail_ - head_) - (delimiter_.length - 1));
+        }
+
+        private void skipRemaining() throws IOException {
+            while (!done_) {
+                final int available = available();
+                if (available > 0) {
+                    head_ += available;
+                } else if (!done_ && !fill()) {
+                    throw unexpectedEnd();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            // No-op; the rest of the part is skipped when moving on to the next one.
+        }
+
+    }
+
+}
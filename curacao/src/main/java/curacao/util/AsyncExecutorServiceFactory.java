@@ -28,10 +28,15 @@ package curacao.util;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import curacao.util.concurrent.FairQueueExecutorService;
+import curacao.util.concurrent.PriorityExecutorService;
+import curacao.util.concurrent.RingBufferExecutorService;
+import curacao.util.concurrent.ShardedExecutorService;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Thread.MAX_PRIORITY;
@@ -83,14 +88,22 @@ public final class AsyncExecutorServiceFactory {
 
     // Helpers
 
-    public static ExecutorService createNewExecutorService(
-            final int size,
+    /**
+     * The thread factory of every executor service created here; daemon threads, at max priority.
+     */
+    private static ThreadFactory newWorkerThreadFactory(
             final String threadNameFormat) {
-        final ThreadFactory threadFactory = new AsyncExecutorServiceFactory()
+        return new AsyncExecutorServiceFactory()
                 .setDaemon(true)
                 .setPriority(MAX_PRIORITY)
                 .setThreadNameFormat(threadNameFormat)
                 .build();
+    }
+
+    public static ExecutorService createNewExecutorService(
+            final int size,
+            final String threadNameFormat) {
+        final ThreadFactory threadFactory = newWorkerThreadFactory(threadNameFormat);
 
         return Executors.newFixedThreadPool(size, threadFactory);
     }
@@ -103,4 +116,84 @@ public final class AsyncExecutorServiceFactory {
         return new SafeListeningExecutorServiceDecorator(executorService);
     }
 
+    public static ExecutorService createNewShardedExecutorService(
+            final int size,
+            final int shards,
+            final String threadNameFormat) {
+        final ThreadFactory threadFactory = newWorkerThreadFactory(threadNameFormat);
+
+        return new ShardedExecutorService(size, shards, threadFactory);
+    }
+
+    public static ListeningExecutorService createNewShardedListeningExecutorService(
+            final int size,
+            final int shards,
+            final String threadNameFormat) {
+        final ExecutorService executorService = createNewShardedExecutorService(size, shards, threadNameFormat);
+
+        return new SafeListeningExecutorServiceDecorator(executorService);
+    }
+
+    public static ExecutorService createNewRingBufferExecutorService(
+            final int size,
+            final int ringSize,
+            final RingBufferExecutorService.WaitStrategy waitStrategy,
+            final long maxSubmitWaitMs,
+            final String threadNameFormat) {
+        final ThreadFactory threadFactory = newWorkerThreadFactory(threadNameFormat);
+
+        return new RingBufferExecutorService(size, ringSize, waitStrategy, maxSubmitWaitMs, TimeUnit.MILLISECONDS,
+                threadFactory);
+    }
+
+    public static ListeningExecutorService createNewRingBufferListeningExecutorService(
+            final int size,
+            final int ringSize,
+            final RingBufferExecutorService.WaitStrategy waitStrategy,
+            final long maxSubmitWaitMs,
+            final String threadNameFormat) {
+        final ExecutorService executorService =
+                createNewRingBufferExecutorService(size, ringSize, waitStrategy, maxSubmitWaitMs, threadNameFormat);
+
+        return new SafeListeningExecutorServiceDecorator(executorService);
+    }
+
+    public static ExecutorService createNewPriorityExecutorService(
+            final int size,
+            final long maxQueueWaitMs,
+            final String threadNameFormat) {
+        final ThreadFactory threadFactory = newWorkerThreadFactory(threadNameFormat);
+
+        return new PriorityExecutorService(size, maxQueueWaitMs, TimeUnit.MILLISECONDS, threadFactory);
+    }
+
+    public static ListeningExecutorService createNewPriorityListeningExecutorService(
+            final int size,
+            final long maxQueueWaitMs,
+            final String threadNameFormat) {
+        final ExecutorService executorService =
+                createNewPriorityExecutorService(size, maxQueueWaitMs, threadNameFormat);
+
+        return new SafeListeningExecutorServiceDecorator(executorService);
+    }
+
+    public static ExecutorService createNewFairQueueExecutorService(
+            final int size,
+            final int maxActiveKeys,
+            final String threadNameFormat) {
+        final ThreadFactory threadFactory = newWorkerThreadFactory(threadNameFormat);
+
+        return new FairQueueExecutorService(size, maxActiveKeys, threadFactory);
+    }
+
+    public static ListeningExecutorService createNewFairQueueListeningExecutorService(
+            final int size,
+            final int maxActiveKeys,
+            final String threadNameFormat) {
+        final ExecutorService executorService =
+                createNewFairQueueExecutorService(size, maxActiveKeys, threadNameFormat);
+
+        return new SafeListeningExecutorServiceDecorator(executorService);
+    }
+
 }
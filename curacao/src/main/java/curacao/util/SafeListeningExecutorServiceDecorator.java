@@ -27,12 +27,20 @@
 package curacao.util;
 
 import com.google.common.util.concurrent.AbstractListeningExecutorService;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import com.google.common.util.concurrent.ListeningExecutorService;
-import curacao.core.CuracaoRunnable;
+import curacao.annotations.RequestMapping.Priority;
+import curacao.core.propagation.ContextPropagators;
+import curacao.util.concurrent.Keyed;
+import curacao.util.concurrent.Prioritized;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -43,6 +51,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * runnables. The Google default implementation of their internal ListeningDecorator blindly submits a runnable for
  * execution even if the delegate executor service is shutdown. This results in a total spew of excessive
  * {@link RejectedExecutionException}'s which can be totally prevented.
+ * <p>
+ * Only fire-and-forget runnables (e.g., future callbacks) are dropped quietly once the delegate is shutdown; a
+ * task submitted for a future is rejected instead, so nobody is left waiting on a future that never completes.
  */
 public final class SafeListeningExecutorServiceDecorator extends AbstractListeningExecutorService {
 
@@ -86,8 +97,92 @@ public final class SafeListeningExecutorServiceDecorator extends AbstractListeni
             @Nonnull final Runnable command) {
         // DO NOT submit the runnable to the delegate if it's shutdown/stopped.
         if (!delegate_.isShutdown()) {
-            delegate_.execute(new CuracaoRunnable(command));
+            delegate_.execute(ContextPropagators.propagate(command));
         }
     }
 
+    @Override
+    @Nonnull
+    public ListenableFuture<?> submit(
+            @Nonnull final Runnable task) {
+        checkNotNull(task, "Runnable task cannot be null.");
+        return submit(Executors.callable(task));
+    }
+
+    @Override
+    @Nonnull
+    public <T> ListenableFuture<T> submit(
+            @Nonnull final Runnable task,
+            @Nullable final T result) {
+        checkNotNull(task, "Runnable task cannot be null.");
+        return submit(Executors.callable(task, result));
+    }
+
+    @Override
+    @Nonnull
+    public <T> ListenableFuture<T> submit(
+            @Nonnull final Callable<T> task) {
+        checkNotNull(task, "Callable task cannot be null.");
+        final ListenableFutureTask<T> future = ListenableFutureTask.create(task);
+        // The future task wrapping the callable would otherwise hide the priority and tenant key of the task
+        // from a priority-aware, or fair queuing, delegate, so carry them through explicitly.
+        final Runnable runnable = (task instanceof Prioritized || task instanceof Keyed)
+                ? new SchedulableCuracaoRunnable(future, task)
+                : ContextPropagators.propagate(future);
+        if (delegate_.isShutdown()) {
+            throw new RejectedExecutionException("Executor service has been shutdown.");
+        }
+        // Note the delegate rejects the task itself if it was shutdown in the meantime.
+        delegate_.execute(runnable);
+        return future;
+    }
+
+    /**
+     * Returns the underlying executor service this decorator delegates to; e.g., to fetch pool specific metrics.
+     */
+    @Nonnull
+    public ExecutorService getDelegate() {
+        return delegate_;
+    }
+
+    private static final class SchedulableCuracaoRunnable implements Runnable, Prioritized, Keyed {
+
+        private final Runnable wrapped_;
+
+        /**
+         * The original task, which carries the scheduling attributes.
+         */
+        private final Object task_;
+
+        private SchedulableCuracaoRunnable(
+                final Runnable wrapped,
+                final Object task) {
+            wrapped_ = ContextPropagators.propagate(wrapped);
+            task_ = task;
+        }
+
+        @Override
+        public void run() {
+            wrapped_.run();
+        }
+
+        @Nonnull
+        @Override
+        public Priority getPriority() {
+            return (task_ instanceof Prioritized) ? ((Prioritized) task_).getPriority() : Priority.HIGH;
+        }
+
+        @Nullable
+        @Override
+        public String getKey() {
+            return (task_ instanceof Keyed) ? ((Keyed) task_).getKey() : null;
+        }
+
+        @Override
+        public int getWeight() {
+            return (task_ instanceof Keyed) ? ((Keyed) task_).getWeight() : 1;
+        }
+
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util;
+
+import com.google.common.collect.MapMaker;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Canonicalizes a value per key instance, e.g., a registry of cached serializers per object mapper, without
+ * pinning either in memory. Keys are compared by identity.
+ * <p>
+ * Both keys and values are held weakly, as a value is expected to hold a strong reference to its own key; with
+ * weak keys alone, that reference alone would keep every entry reachable forever. A value is shared for as long
+ * as something else references it, and is dropped, along with its key, once nothing does. Callers that want a
+ * value to outlive the objects using it should hold onto it themselves.
+ */
+public final class WeakIdentityRegistry<K, V> {
+
+    private final ConcurrentMap<K, V> values_;
+
+    public WeakIdentityRegistry() {
+        values_ = new MapMaker().weakKeys().weakValues().makeMap();
+    }
+
+    /**
+     * The value for the given key instance, created by the given function if there is none, or if the previous
+     * value has since been collected.
+     */
+    @Nonnull
+    public V get(
+            @Nonnull final K key,
+            @Nonnull final Function<? super K, ? extends V> factory) {
+        checkNotNull(key, "Key cannot be null.");
+        checkNotNull(factory, "Factory cannot be null.");
+        return values_.computeIfAbsent(key, factory);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * The plumbing shared by the executor services in this package: a fixed set of worker threads, each of which runs
+ * whatever task the executor hands it next until there's nothing left to run, and the life cycle of the executor;
+ * running, then shutdown (pending work is still run), then stopped (pending work is abandoned).
+ * <p>
+ * How pending work is queued, and which task a worker gets next, is up to the extending class.
+ */
+/* default */ abstract class AbstractWorkerExecutorService extends AbstractExecutorService {
+
+    private static final Logger LOG = getLogger(AbstractWorkerExecutorService.class);
+
+    /* default */ static final int RUNNING = 0;
+    /* default */ static final int SHUTDOWN = 1;
+    /* default */ static final int STOP = 2;
+
+    /* default */ final AtomicInteger state_;
+
+    private final List<Thread> workers_;
+
+    private final CountDownLatch terminated_;
+
+    /* default */ AbstractWorkerExecutorService(
+            final int size,
+            @Nonnull final ThreadFactory threadFactory) {
+        checkArgument(size > 0, "Thread pool size (%s) must be > 0", size);
+        checkNotNull(threadFactory, "Thread factory cannot be null.");
+        state_ = new AtomicInteger(RUNNING);
+        terminated_ = new CountDownLatch(size);
+        final List<Thread> workers = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            workers.add(threadFactory.newThread(new Worker(i)));
+        }
+        workers_ = ImmutableList.copyOf(workers);
+    }
+
+    /**
+     * Starts the worker threads; called by the extending class at the end of its constructor, as the workers
+     * start asking it for work right away.
+     */
+    /* default */ final void startWorkers() {
+        workers_.forEach(Thread::start);
+    }
+
+    /**
+     * Interrupts any worker threads waiting for work, or running a task; see {@link #shutdownNow()}.
+     */
+    /* default */ final void interruptWorkers() {
+        workers_.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Whether the given thread is one of this executor's worker threads.
+     */
+    /* default */ final boolean isWorker(
+            final Thread thread) {
+        return workers_.contains(thread);
+    }
+
+    /**
+     * Returns the next task for the given worker to run, waiting for one as long as need be, or null once the
+     * worker should exit: when the executor is stopped, or shutdown with no pending work left.
+     *
+     * @param worker the index of the worker, from zero to the pool size (exclusive)
+     */
+    /* default */ abstract Runnable take(
+            final int worker);
+
+    @Override
+    public final boolean isShutdown() {
+        return state_.get() != RUNNING;
+    }
+
+    @Override
+    public final boolean isTerminated() {
+        return terminated_.getCount() == 0L;
+    }
+
+    @Override
+    public final boolean awaitTermination(
+            final long timeout,
+            @Nonnull final TimeUnit unit) throws InterruptedException {
+        return terminated_.await(timeout, unit);
+    }
+
+    /* default */ static RejectedExecutionException shutdownRejection() {
+        return new RejectedExecutionException("Executor service has been shutdown.");
+    }
+
+    private final class Worker implements Runnable {
+
+        private final int index_;
+
+        private Worker(
+                final int index) {
+            index_ = index;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                while ((task = take(index_)) != null) {
+                    try {
+                        task.run();
+                    } catch (final Throwable t) {
+                        // Unlike a ThreadPoolExecutor, we don't replace a worker that died from an uncaught
+                        // exception, so keep the worker alive and move on to the next task.
+                        LOG.warn("Uncaught exception in {} worker.",
+                                AbstractWorkerExecutorService.this.getClass().getSimpleName(), t);
+                    }
+                }
+            } finally {
+                terminated_.countDown();
+            }
+        }
+
+    }
+
+}
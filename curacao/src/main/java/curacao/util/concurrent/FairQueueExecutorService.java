@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * An executor service that queues pending work per tenant, and services the tenants with pending work
+ * round-robin. Tasks that implement {@link Keyed} are queued by their tenant key, so a single tenant flooding the
+ * pool only ever delays its own work; everyone else still gets a turn. A tenant with a weight of N gets to run up
+ * to N tasks per turn. Tasks that don't implement {@link Keyed} (e.g., the callbacks that write out a response for
+ * a request that's already been processed) skip the line, given that finishing work in flight frees up resources
+ * for everyone.
+ * <p>
+ * Tenant queues only exist while the tenant has work pending, and the number of them is bounded; once the bound
+ * is reached, work for any new tenant lands in a single shared queue along with all work that has no tenant key.
+ */
+public final class FairQueueExecutorService extends AbstractWorkerExecutorService {
+
+    private static final Logger LOG = getLogger(FairQueueExecutorService.class);
+
+    private final int maxActiveKeys_;
+
+    /**
+     * Pending work that doesn't belong to any tenant queue, serviced ahead of all tenant queues. Guarded by the lock.
+     */
+    private final Queue<Runnable> unkeyed_;
+
+    /**
+     * The shared queue for work with a null tenant key, and for work that overflowed the active tenant bound.
+     * Takes its turn in the rotation like any other tenant queue. Guarded by the lock.
+     */
+    private final TenantQueue shared_;
+
+    /**
+     * The tenant queues with work pending, by tenant key, and the order in which they take turns. Guarded by
+     * the lock.
+     */
+    private final Map<String, TenantQueue> active_;
+    private final Queue<TenantQueue> rotation_;
+
+    private final LongAdder overflowed_;
+
+    private final ReentrantLock lock_;
+    private final Condition notEmpty_;
+
+    public FairQueueExecutorService(
+            final int size,
+            final int maxActiveKeys,
+            @Nonnull final ThreadFactory threadFactory) {
+        super(size, threadFactory);
+        checkArgument(maxActiveKeys > 0, "Max active keys (%s) must be > 0", maxActiveKeys);
+        maxActiveKeys_ = maxActiveKeys;
+        unkeyed_ = new ArrayDeque<>();
+        shared_ = new TenantQueue(null, 1);
+        active_ = Maps.newHashMap();
+        rotation_ = new ArrayDeque<>();
+        overflowed_ = new LongAdder();
+        lock_ = new ReentrantLock();
+        notEmpty_ = lock_.newCondition();
+        startWorkers();
+    }
+
+    @Override
+    public void execute(
+            @Nonnull final Runnable command) {
+        checkNotNull(command, "Runnable command cannot be null.");
+        // Note the tenant key is resolved outside of the lock; extracting it may not be free.
+        final boolean keyed = (command instanceof Keyed);
+        final String key = keyed ? ((Keyed) command).getKey() : null;
+        final int weight = (key != null) ? Math.max(1, ((Keyed) command).getWeight()) : 1;
+        lock_.lock();
+        try {
+            // Checked under the lock, so a worker can never observe empty queues during shutdown and exit
+            // while a task is being queued.
+            if (state_.get() != RUNNING) {
+                throw shutdownRejection();
+            }
+            if (keyed) {
+                final TenantQueue queue = getQueueForKey(key, weight);
+                if (queue.tasks_.isEmpty()) {
+                    // The tenant had no work pending; it joins the back of the rotation.
+                    rotation_.add(queue);
+                }
+                queue.tasks_.add(command);
+            } else {
+                unkeyed_.add(command);
+            }
+            notEmpty_.signal();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock_.lock();
+        try {
+            if (state_.compareAndSet(RUNNING, SHUTDOWN)) {
+                notEmpty_.signalAll();
+            }
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = Lists.newArrayList();
+        lock_.lock();
+        try {
+            state_.set(STOP);
+            pending.addAll(unkeyed_);
+            unkeyed_.clear();
+            for (final TenantQueue queue : rotation_) {
+                pending.addAll(queue.tasks_);
+                queue.tasks_.clear();
+            }
+            rotation_.clear();
+            active_.clear();
+            notEmpty_.signalAll();
+        } finally {
+            lock_.unlock();
+        }
+        interruptWorkers();
+        return pending;
+    }
+
+    /**
+     * Returns the number of tenants that currently have their own queue of pending work.
+     */
+    public int getActiveKeyCount() {
+        lock_.lock();
+        try {
+            return active_.size();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    /**
+     * Returns the total number of tasks that were queued in the shared queue instead of in a queue of their own,
+     * because the number of active tenants was at its bound.
+     */
+    public long getOverflowCount() {
+        return overflowed_.sum();
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private TenantQueue getQueueForKey(
+            final String key,
+            final int weight) {
+        if (key == null) {
+            return shared_;
+        }
+        final TenantQueue queue = active_.get(key);
+        if (queue != null) {
+            return queue;
+        } else if (active_.size() >= maxActiveKeys_) {
+            overflowed_.increment();
+            return shared_;
+        }
+        final TenantQueue created = new TenantQueue(key, weight);
+        active_.put(key, created);
+        return created;
+    }
+
+    /**
+     * Must be called while holding the lock. Returns null if there's no pending work.
+     */
+    private Runnable poll() {
+        final Runnable unkeyed = unkeyed_.poll();
+        if (unkeyed != null) {
+            return unkeyed;
+        }
+        final TenantQueue queue = rotation_.peek();
+        if (queue == null) {
+            return null;
+        }
+        final Runnable task = queue.tasks_.poll();
+        if (queue.tasks_.isEmpty()) {
+            // The tenant has no more work pending; drop it from the rotation, and let go of its queue.
+            rotation_.poll();
+            queue.served_ = 0;
+            if (queue.key_ != null) {
+                active_.remove(queue.key_);
+            }
+        } else if (++queue.served_ >= queue.weight_) {
+            // The tenant has used up its turn; move it to the back of the rotation.
+            queue.served_ = 0;
+            rotation_.add(rotation_.poll());
+        }
+        return task;
+    }
+
+    @Override
+    /* default */ Runnable take(
+            final int worker) {
+        lock_.lock();
+        try {
+            while (true) {
+                final int state = state_.get();
+                if (state == STOP) {
+                    return null;
+                }
+                final Runnable task = poll();
+                if (task != null) {
+                    return task;
+                } else if (state == SHUTDOWN) {
+                    // Shutting down, and there's no pending work left for any tenant.
+                    return null;
+                }
+                try {
+                    notEmpty_.await();
+                } catch (final InterruptedException e) {
+                    // Interrupted by shutdownNow(); loop around and re-check the executor state.
+                    LOG.trace("Fair queue executor worker interrupted while waiting for work.", e);
+                }
+            }
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private static final class TenantQueue {
+
+        private final String key_;
+        private final int weight_;
+
+        private final Queue<Runnable> tasks_ = new ArrayDeque<>();
+
+        /**
+         * The number of tasks run during the current turn of this tenant in the rotation.
+         */
+        private int served_ = 0;
+
+        private TenantQueue(
+                final String key,
+                final int weight) {
+            key_ = key;
+            weight_ = weight;
+        }
+
+    }
+
+}
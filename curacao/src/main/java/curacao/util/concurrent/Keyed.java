@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by tasks that belong to a client, or tenant, identified by a key. Fair queuing executors, like the
+ * {@link FairQueueExecutorService}, use the key to give each tenant its own share of the pool. Executors that
+ * aren't fair queuing never ask, so resolving the key can be deferred until it is actually needed.
+ */
+public interface Keyed {
+
+    /**
+     * The key of the tenant this task belongs to, or null if the task doesn't belong to any tenant in particular.
+     */
+    @Nullable
+    String getKey();
+
+    /**
+     * The relative weight of the tenant this task belongs to. A tenant with a weight of 2 is given twice the share
+     * of the pool as a tenant with a weight of 1, when both have work pending.
+     */
+    default int getWeight() {
+        return 1;
+    }
+
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import curacao.annotations.RequestMapping.Priority;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * An executor service that keeps a separate queue of pending work per {@link Priority}, and always hands the
+ * next free worker thread a task from the highest priority queue that has one. Tasks that implement
+ * {@link Prioritized} are queued at their declared priority; anything else (e.g., the callbacks that write out a
+ * response for a request that's already been processed) is considered {@link Priority#HIGH} priority, given that
+ * finishing work in flight frees up resources for everything else.
+ * <p>
+ * To protect lower priority work from starvation under sustained load, a task that has been waiting longer than
+ * the configured max queue wait is serviced ahead of any higher priority work, oldest first.
+ */
+public final class PriorityExecutorService extends AbstractWorkerExecutorService {
+
+    private static final Logger LOG = getLogger(PriorityExecutorService.class);
+
+    /**
+     * All priorities, highest first.
+     */
+    private static final List<Priority> PRIORITIES = ImmutableList.copyOf(Priority.values()).reverse();
+
+    private final long maxQueueWaitNanos_;
+
+    /**
+     * The pending work queues, one per priority. Guarded by the lock.
+     */
+    private final Map<Priority, Queue<PrioritizedTask>> queues_;
+
+    private final Map<Priority, PriorityStats> stats_;
+
+    private final ReentrantLock lock_;
+    private final Condition notEmpty_;
+
+    public PriorityExecutorService(
+            final int size,
+            final long maxQueueWait,
+            @Nonnull final TimeUnit maxQueueWaitUnit,
+            @Nonnull final ThreadFactory threadFactory) {
+        super(size, threadFactory);
+        checkArgument(maxQueueWait > 0L, "Max queue wait (%s) must be > 0", maxQueueWait);
+        checkNotNull(maxQueueWaitUnit, "Max queue wait unit cannot be null.");
+        maxQueueWaitNanos_ = maxQueueWaitUnit.toNanos(maxQueueWait);
+        queues_ = new EnumMap<>(Priority.class);
+        stats_ = new EnumMap<>(Priority.class);
+        for (final Priority priority : PRIORITIES) {
+            queues_.put(priority, new ArrayDeque<>());
+            stats_.put(priority, new PriorityStats());
+        }
+        lock_ = new ReentrantLock();
+        notEmpty_ = lock_.newCondition();
+        startWorkers();
+    }
+
+    @Override
+    public void execute(
+            @Nonnull final Runnable command) {
+        checkNotNull(command, "Runnable command cannot be null.");
+        // Note the priority is resolved outside of the lock; classifying a task may not be free.
+        final Priority priority = (command instanceof Prioritized)
+                ? ((Prioritized) command).getPriority()
+                : Priority.HIGH;
+        final PrioritizedTask task = new PrioritizedTask(command, priority, stats_.get(priority), System.nanoTime());
+        lock_.lock();
+        try {
+            // Checked under the lock, so a worker can never observe empty queues during shutdown and exit
+            // while a task is being queued.
+            if (state_.get() != RUNNING) {
+                throw shutdownRejection();
+            }
+            queues_.get(priority).add(task);
+            task.stats_.submitted_.increment();
+            notEmpty_.signal();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock_.lock();
+        try {
+            if (state_.compareAndSet(RUNNING, SHUTDOWN)) {
+                notEmpty_.signalAll();
+            }
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = Lists.newArrayList();
+        lock_.lock();
+        try {
+            state_.set(STOP);
+            for (final Priority priority : PRIORITIES) {
+                final Queue<PrioritizedTask> queue = queues_.get(priority);
+                PrioritizedTask task;
+                while ((task = queue.poll()) != null) {
+                    pending.add(task.runnable_);
+                }
+            }
+            notEmpty_.signalAll();
+        } finally {
+            lock_.unlock();
+        }
+        interruptWorkers();
+        return pending;
+    }
+
+    /**
+     * Returns a point-in-time snapshot of the queue metrics for the given priority.
+     */
+    @Nonnull
+    public PriorityQueueMetrics getMetrics(
+            @Nonnull final Priority priority) {
+        checkNotNull(priority, "Priority cannot be null.");
+        final int depth;
+        lock_.lock();
+        try {
+            depth = queues_.get(priority).size();
+        } finally {
+            lock_.unlock();
+        }
+        final PriorityStats stats = stats_.get(priority);
+        return new PriorityQueueMetrics(priority, depth, stats.submitted_.sum(), stats.completed_.sum(),
+                stats.promoted_.sum(), stats.queueWaitNanos_.sum());
+    }
+
+    /**
+     * Must be called while holding the lock. Returns null if there's no pending work.
+     */
+    private PrioritizedTask poll() {
+        final long now = System.nanoTime();
+        // Starvation protection: find the oldest task, if any, that has been waiting longer than the max queue
+        // wait. Each queue is FIFO, so only the head of each queue needs to be checked.
+        PrioritizedTask starved = null;
+        for (final Priority priority : PRIORITIES) {
+            final PrioritizedTask head = queues_.get(priority).peek();
+            if (head == null || now - head.queuedNanos_ < maxQueueWaitNanos_) {
+                continue;
+            }
+            // Note, nano times must be compared by their difference; they may overflow.
+            if (starved == null || head.queuedNanos_ - starved.queuedNanos_ < 0L) {
+                starved = head;
+            }
+        }
+        if (starved != null) {
+            final PrioritizedTask task = queues_.get(starved.priority_).poll();
+            // Only count it as promoted if it actually jumped ahead of higher priority work.
+            if (hasHigherPriorityWork(task.priority_)) {
+                task.stats_.promoted_.increment();
+            }
+            return task;
+        }
+        for (final Priority priority : PRIORITIES) {
+            final PrioritizedTask task = queues_.get(priority).poll();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasHigherPriorityWork(
+            final Priority priority) {
+        for (final Priority p : PRIORITIES) {
+            if (p.compareTo(priority) <= 0) {
+                break;
+            } else if (!queues_.get(p).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    /* default */ Runnable take(
+            final int worker) {
+        lock_.lock();
+        try {
+            while (true) {
+                final int state = state_.get();
+                if (state == STOP) {
+                    return null;
+                }
+                final PrioritizedTask task = poll();
+                if (task != null) {
+                    return task;
+                } else if (state == SHUTDOWN) {
+                    // Shutting down, and there's no pending work left at any priority.
+                    return null;
+                }
+                try {
+                    notEmpty_.await();
+                } catch (final InterruptedException e) {
+                    // Interrupted by shutdownNow(); loop around and re-check the executor state.
+                    LOG.trace("Priority executor worker interrupted while waiting for work.", e);
+                }
+            }
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    /**
+     * A queued task, that keeps the stats of its priority as it's run.
+     */
+    private static final class PrioritizedTask implements Runnable {
+
+        private final Runnable runnable_;
+        private final Priority priority_;
+        private final PriorityStats stats_;
+        private final long queuedNanos_;
+
+        private PrioritizedTask(
+                final Runnable runnable,
+                final Priority priority,
+                final PriorityStats stats,
+                final long queuedNanos) {
+            runnable_ = runnable;
+            priority_ = priority;
+            stats_ = stats;
+            queuedNanos_ = queuedNanos;
+        }
+
+        @Override
+        public void run() {
+            stats_.queueWaitNanos_.add(System.nanoTime() - queuedNanos_);
+            try {
+                runnable_.run();
+            } finally {
+                stats_.completed_.increment();
+            }
+        }
+
+    }
+
+    private static final class PriorityStats {
+
+        private final LongAdder submitted_ = new LongAdder();
+        private final LongAdder completed_ = new LongAdder();
+        private final LongAdder promoted_ = new LongAdder();
+        private final LongAdder queueWaitNanos_ = new LongAdder();
+
+    }
+
+    /**
+     * A point-in-time snapshot of the queue metrics for a single priority.
+     */
+    public static final class PriorityQueueMetrics {
+
+        public final Priority priority_;
+
+        /**
+         * The number of tasks currently waiting in the queue.
+         */
+        public final int depth_;
+
+        /**
+         * The total number of tasks submitted, and completed, at this priority.
+         */
+        public final long submitted_;
+        public final long completed_;
+
+        /**
+         * The total number of tasks at this priority that were serviced ahead of higher priority work
+         * because they had been waiting longer than the max queue wait.
+         */
+        public final long promoted_;
+
+        /**
+         * The cumulative time, in nanoseconds, that tasks at this priority spent waiting in the queue before
+         * being picked up by a worker thread.
+         */
+        public final long queueWaitNanos_;
+
+        private PriorityQueueMetrics(
+                final Priority priority,
+                final int depth,
+                final long submitted,
+                final long completed,
+                final long promoted,
+                final long queueWaitNanos) {
+            priority_ = priority;
+            depth_ = depth;
+            submitted_ = submitted;
+            completed_ = completed;
+            promoted_ = promoted;
+            queueWaitNanos_ = queueWaitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PriorityQueueMetrics(priority=%s, depth=%d, submitted=%d, completed=%d, "
+                    + "promoted=%d, queueWaitNanos=%d)", priority_, depth_, submitted_, completed_, promoted_,
+                    queueWaitNanos_);
+        }
+
+    }
+
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * An executor service that hands work off to its worker threads through a preallocated, fixed size ring buffer,
+ * in the style of the LMAX Disruptor. Unlike the linked queue behind a typical fixed thread pool, claiming and
+ * publishing a slot in the ring allocates nothing, which keeps dispatch jitter low on latency sensitive
+ * deployments.
+ * <p>
+ * How idle workers wait for new work is controlled by a {@link WaitStrategy}, trading CPU burn for handoff
+ * latency. When the ring is full, submitters back off until a slot frees up, for up to the given max submit
+ * wait; this applies back-pressure to the Servlet container rather than queueing without bound, and a task
+ * that still finds no free slot is rejected. A task submitted to a full ring by one of its own workers (e.g., a
+ * response callback) is run right away by that worker instead; only the workers drain the ring, so a worker
+ * waiting on it may wait for nothing.
+ */
+public final class RingBufferExecutorService extends AbstractWorkerExecutorService {
+
+    private static final Logger LOG = getLogger(RingBufferExecutorService.class);
+
+    /**
+     * The maximum ring buffer size; the largest power of two that fits in an int.
+     */
+    private static final int MAX_RING_SIZE = 1 << 30;
+
+    /**
+     * How many times a waiting thread spins before escalating to the next, more expensive, way of waiting.
+     */
+    private static final int SPIN_TRIES = 100;
+
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+
+    /**
+     * The strategy used by idle worker threads to wait for new work to be published to the ring.
+     */
+    public enum WaitStrategy {
+
+        /**
+         * Idle workers block on a lock condition, and are signaled by submitters. The lowest CPU usage,
+         * and the highest handoff latency of the bunch.
+         */
+        BLOCKING,
+
+        /**
+         * Idle workers spin briefly, then yield, then park for short intervals.
+         */
+        SLEEPING,
+
+        /**
+         * Idle workers spin briefly, then yield. Burns CPU, but gives it up to other threads on demand.
+         */
+        YIELDING,
+
+        /**
+         * Idle workers spin. The lowest handoff latency, but each idle worker burns an entire core;
+         * only sensible when the number of threads is below the number of available cores.
+         */
+        BUSY_SPIN;
+
+        public static WaitStrategy fromString(
+                @Nonnull final String strategy) {
+            checkNotNull(strategy, "Wait strategy cannot be null.");
+            // Config friendly; e.g., "busy-spin" maps to BUSY_SPIN.
+            return valueOf(strategy.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+
+    }
+
+    private final int mask_;
+
+    /**
+     * The ring itself, and a parallel array of slot sequence numbers. A slot whose sequence equals the
+     * "claim" position is free for a producer to claim; a slot whose sequence is one past the claim position
+     * has been published, and is ready to be consumed.
+     */
+    private final AtomicReferenceArray<Runnable> ring_;
+    private final AtomicLongArray sequences_;
+
+    /**
+     * The next position to be claimed by a producer, and the next position to be consumed by a worker.
+     */
+    private final AtomicLong tail_;
+    private final AtomicLong head_;
+
+    private final WaitStrategy waitStrategy_;
+
+    private final long maxSubmitWaitNanos_;
+
+    /**
+     * The number of submitters between checking that the executor is running and publishing their task. On
+     * shutdown, workers keep going until there are none, so a task accepted by a submitter is always run.
+     */
+    private final AtomicInteger submitters_;
+
+    private final ReentrantLock lock_;
+    private final Condition notEmpty_;
+    private final AtomicInteger waiters_;
+
+    public RingBufferExecutorService(
+            final int size,
+            final int ringSize,
+            @Nonnull final WaitStrategy waitStrategy,
+            final long maxSubmitWait,
+            @Nonnull final TimeUnit maxSubmitWaitUnit,
+            @Nonnull final ThreadFactory threadFactory) {
+        super(size, threadFactory);
+        checkArgument(ringSize > 0, "Ring buffer size (%s) must be > 0", ringSize);
+        checkArgument(ringSize <= MAX_RING_SIZE, "Ring buffer size (%s) must be <= %s", ringSize, MAX_RING_SIZE);
+        waitStrategy_ = checkNotNull(waitStrategy, "Wait strategy cannot be null.");
+        checkArgument(maxSubmitWait > 0L, "Max submit wait (%s) must be > 0", maxSubmitWait);
+        checkNotNull(maxSubmitWaitUnit, "Max submit wait unit cannot be null.");
+        maxSubmitWaitNanos_ = maxSubmitWaitUnit.toNanos(maxSubmitWait);
+        // Round the ring size up to the next power of two, so a position can be mapped to its slot
+        // with a mask instead of a modulo.
+        final int capacity = (ringSize == 1) ? 1 : Integer.highestOneBit(ringSize - 1) << 1;
+        mask_ = capacity - 1;
+        ring_ = new AtomicReferenceArray<>(capacity);
+        sequences_ = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences_.set(i, i);
+        }
+        tail_ = new AtomicLong();
+        head_ = new AtomicLong();
+        lock_ = new ReentrantLock();
+        notEmpty_ = lock_.newCondition();
+        waiters_ = new AtomicInteger();
+        submitters_ = new AtomicInteger();
+        startWorkers();
+    }
+
+    @Override
+    public void execute(
+            @Nonnull final Runnable command) {
+        checkNotNull(command, "Runnable command cannot be null.");
+        boolean runInline = false;
+        submitters_.incrementAndGet();
+        try {
+            long deadline = 0L;
+            int tries = 0;
+            while (true) {
+                if (state_.get() != RUNNING) {
+                    throw shutdownRejection();
+                } else if (offer(command)) {
+                    break;
+                } else if (isWorker(Thread.currentThread())) {
+                    runInline = true;
+                    break;
+                }
+                // The ring is full; back off until a worker frees up a slot, but only for so long.
+                final long now = System.nanoTime();
+                if (tries == 0) {
+                    deadline = now + maxSubmitWaitNanos_;
+                } else if (now - deadline >= 0L) {
+                    throw new RejectedExecutionException("Ring buffer is full: no slot freed up within "
+                            + TimeUnit.NANOSECONDS.toMillis(maxSubmitWaitNanos_) + "-ms.");
+                }
+                backoff(++tries);
+            }
+        } finally {
+            submitters_.decrementAndGet();
+        }
+        if (runInline) {
+            command.run();
+            return;
+        }
+        // Re-check: if the service was shutdown concurrently with the offer above, any worker that went to wait
+        // in the meantime must wake up to run the task. If it was stopped, shutdownNow() returns the task.
+        if (state_.get() != RUNNING) {
+            wakeAll();
+        } else if (waiters_.get() > 0) {
+            // Only pay for the lock if a worker is actually blocked waiting for work.
+            lock_.lock();
+            try {
+                notEmpty_.signal();
+            } finally {
+                lock_.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (state_.compareAndSet(RUNNING, SHUTDOWN)) {
+            wakeAll();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        state_.set(STOP);
+        interruptWorkers();
+        wakeAll();
+        // Any submitter still publishing its task will see the executor stopped right after; wait for it, so
+        // its task is returned here instead of being stranded in the ring.
+        while (submitters_.get() > 0) {
+            Thread.onSpinWait();
+        }
+        final List<Runnable> pending = Lists.newArrayList();
+        Runnable task;
+        while ((task = poll()) != null) {
+            pending.add(task);
+        }
+        return pending;
+    }
+
+    private boolean offer(
+            final Runnable command) {
+        long position = tail_.get();
+        while (true) {
+            final int slot = (int) (position & mask_);
+            final long difference = sequences_.get(slot) - position;
+            if (difference == 0L) {
+                // The slot is free; try to claim it.
+                if (tail_.compareAndSet(position, position + 1L)) {
+                    break;
+                }
+                position = tail_.get();
+            } else if (difference < 0L) {
+                // The slot still holds an unconsumed task from the previous lap; the ring is full.
+                return false;
+            } else {
+                // Another producer claimed this slot first.
+                position = tail_.get();
+            }
+        }
+        final int slot = (int) (position & mask_);
+        ring_.lazySet(slot, command);
+        // Publish; the volatile write to the sequence makes the task visible to consumers.
+        sequences_.set(slot, position + 1L);
+        return true;
+    }
+
+    private Runnable poll() {
+        long position = head_.get();
+        while (true) {
+            final int slot = (int) (position & mask_);
+            final long difference = sequences_.get(slot) - (position + 1L);
+            if (difference == 0L) {
+                // The slot has been published; try to consume it.
+                if (head_.compareAndSet(position, position + 1L)) {
+                    break;
+                }
+                position = head_.get();
+            } else if (difference < 0L) {
+                // Nothing has been published at this position yet; the ring is empty.
+                return null;
+            } else {
+                // Another worker consumed this slot first.
+                position = head_.get();
+            }
+        }
+        final int slot = (int) (position & mask_);
+        final Runnable task = ring_.get(slot);
+        ring_.lazySet(slot, null);
+        // Release the slot for the next lap around the ring.
+        sequences_.set(slot, position + mask_ + 1L);
+        return task;
+    }
+
+    private boolean isEmpty() {
+        final long position = head_.get();
+        return sequences_.get((int) (position & mask_)) != position + 1L;
+    }
+
+    private void backoff(
+            final int tries) {
+        switch (waitStrategy_) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELDING:
+                if (tries < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                break;
+            case SLEEPING:
+            case BLOCKING:
+            default:
+                if (tries < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (tries < SPIN_TRIES * 2) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+                break;
+        }
+    }
+
+    private void block() {
+        lock_.lock();
+        try {
+            // Note the waiter count is bumped ~before~ checking for work. A producer publishes before it checks
+            // the waiter count, so either we see its task here, or it sees us waiting and signals.
+            waiters_.incrementAndGet();
+            try {
+                if (isEmpty() && state_.get() == RUNNING) {
+                    notEmpty_.await();
+                }
+            } finally {
+                waiters_.decrementAndGet();
+            }
+        } catch (final InterruptedException e) {
+            // Interrupted by shutdownNow(); the worker will re-check the executor state.
+            LOG.trace("Ring buffer worker interrupted while waiting for work.", e);
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private void wakeAll() {
+        lock_.lock();
+        try {
+            notEmpty_.signalAll();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    @Override
+    /* default */ Runnable take(
+            final int worker) {
+        int tries = 0;
+        while (true) {
+            final int state = state_.get();
+            if (state == STOP) {
+                return null;
+            }
+            final Runnable task = poll();
+            if (task != null) {
+                return task;
+            } else if (state == SHUTDOWN && submitters_.get() == 0 && tail_.get() == head_.get()) {
+                // Shutting down, and nothing has been (or is about to be) claimed or published that we haven't
+                // consumed. Note the submitter count is checked first; a submitter that comes along after it
+                // was read sees the executor shutdown, and rejects its task.
+                return null;
+            }
+            if (waitStrategy_ == WaitStrategy.BLOCKING && state == RUNNING) {
+                block();
+            } else {
+                backoff(tries);
+            }
+            tries++;
+        }
+    }
+
+}
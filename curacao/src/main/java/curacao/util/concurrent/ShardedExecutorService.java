@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * An executor service that partitions its worker threads into a set of independent "shards", each with its own
+ * work queue. Submitted tasks are distributed across the shards round-robin, so concurrent submitters rarely
+ * contend on the same queue lock as they would with a single shared queue in front of a fixed thread pool.
+ * <p>
+ * A worker that finds its own shard queue empty will attempt to steal work from the tail of its sibling shard
+ * queues before waiting, which keeps idle shards busy when the load across shards is uneven (e.g., a shard
+ * that happened to receive a handful of slow requests). Idle workers wait until signaled that work was queued,
+ * rather than polling.
+ */
+public final class ShardedExecutorService extends AbstractWorkerExecutorService {
+
+    private static final Logger LOG = getLogger(ShardedExecutorService.class);
+
+    private final List<BlockingDeque<Runnable>> shards_;
+
+    private final AtomicInteger next_;
+
+    /**
+     * Workers with nothing to run, in any shard, wait on a signal shared by all shards, and one of them is woken
+     * as each task is queued; whichever shard the task lands in, the worker woken finds it, by stealing if
+     * need be. Submitters only pay for the lock if some worker is actually waiting.
+     */
+    private final ReentrantLock lock_;
+    private final Condition notEmpty_;
+    private final AtomicInteger waiters_;
+
+    public ShardedExecutorService(
+            final int size,
+            final int shards,
+            @Nonnull final ThreadFactory threadFactory) {
+        super(size, threadFactory);
+        checkArgument(shards > 0, "Shard count (%s) must be > 0", shards);
+        // There's no point in having more shards than threads; a shard without a worker would only ever
+        // be drained by stealing.
+        final int shardCount = Math.min(size, shards);
+        final ImmutableList.Builder<BlockingDeque<Runnable>> shardsBuilder = ImmutableList.builder();
+        for (int i = 0; i < shardCount; i++) {
+            shardsBuilder.add(new LinkedBlockingDeque<>());
+        }
+        shards_ = shardsBuilder.build();
+        next_ = new AtomicInteger();
+        lock_ = new ReentrantLock();
+        notEmpty_ = lock_.newCondition();
+        waiters_ = new AtomicInteger();
+        startWorkers();
+    }
+
+    @Override
+    public void execute(
+            @Nonnull final Runnable command) {
+        checkNotNull(command, "Runnable command cannot be null.");
+        if (state_.get() != RUNNING) {
+            throw shutdownRejection();
+        }
+        final BlockingDeque<Runnable> shard =
+                shards_.get(Math.floorMod(next_.getAndIncrement(), shards_.size()));
+        shard.offer(command);
+        // Re-check: if the service was shutdown concurrently with the offer above, the workers may have
+        // already drained their queues and exited. Pull the command back out and reject it if so.
+        if (state_.get() != RUNNING && shard.remove(command)) {
+            throw shutdownRejection();
+        }
+        if (waiters_.get() > 0) {
+            lock_.lock();
+            try {
+                notEmpty_.signal();
+            } finally {
+                lock_.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (state_.compareAndSet(RUNNING, SHUTDOWN)) {
+            wakeAll();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        state_.set(STOP);
+        interruptWorkers();
+        wakeAll();
+        final List<Runnable> pending = Lists.newArrayList();
+        for (final BlockingDeque<Runnable> shard : shards_) {
+            shard.drainTo(pending);
+        }
+        return pending;
+    }
+
+    @Override
+    /* default */ Runnable take(
+            final int worker) {
+        // Threads are assigned to shards evenly; with a pool size that isn't a multiple of the shard count,
+        // the first few shards get one extra worker.
+        final int shard = worker % shards_.size();
+        final BlockingDeque<Runnable> own = shards_.get(shard);
+        while (true) {
+            final int state = state_.get();
+            if (state == STOP) {
+                return null;
+            }
+            Runnable task = own.poll();
+            if (task == null) {
+                task = steal(shard);
+            }
+            if (task != null) {
+                return task;
+            } else if (state == SHUTDOWN) {
+                // Shutting down, and there's nothing left in our queue or in any sibling queue.
+                return null;
+            }
+            block();
+        }
+    }
+
+    private void block() {
+        lock_.lock();
+        try {
+            // Note the waiter count is bumped ~before~ checking for work. A submitter queues its task before it
+            // checks the waiter count, so either we see its task here, or it sees us waiting and signals.
+            waiters_.incrementAndGet();
+            try {
+                if (isEmpty() && state_.get() == RUNNING) {
+                    notEmpty_.await();
+                }
+            } finally {
+                waiters_.decrementAndGet();
+            }
+        } catch (final InterruptedException e) {
+            // Interrupted by shutdownNow(); the worker will re-check the executor state.
+            LOG.trace("Sharded executor worker interrupted while waiting for work.", e);
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private boolean isEmpty() {
+        for (final BlockingDeque<Runnable> shard : shards_) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void wakeAll() {
+        lock_.lock();
+        try {
+            notEmpty_.signalAll();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    /**
+     * Steals from the tail of each sibling shard queue, starting with the next shard over so that
+     * idle workers don't all pile onto the same victim.
+     */
+    private Runnable steal(
+            final int shard) {
+        final int shardCount = shards_.size();
+        for (int i = 1; i < shardCount; i++) {
+            final Runnable stolen = shards_.get((shard + i) % shardCount).pollLast();
+            if (stolen != null) {
+                return stolen;
+            }
+        }
+        return null;
+    }
+
+}
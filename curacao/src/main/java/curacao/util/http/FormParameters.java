@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Mark S. Kolich
+ * https://mark.koli.ch
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package curacao.util.http;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import curacao.exceptions.requests.RequestTooLargeException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+
+/**
+ * The parameters of an {@code application/x-www-form-urlencoded} request body, parsed straight from the buffered
+ * body bytes.
+ * <p>
+ * Parsing is a single pass over the body that only records where each name and value starts and ends; nothing
+ * is decoded, and no strings are created, until a parameter is actually asked for. Looking up a parameter by name
+ * compares the requested name against the still-encoded names in the body, percent-decoding on the fly, so only
+ * the values of the requested parameters are ever turned into strings.
+ * <p>
+ * Form bodies are expected to be in an ASCII compatible charset (e.g., UTF-8 or ISO-8859-1), as any browser
+ * or HTTP client will send them.
+ */
+public final class FormParameters {
+
+    private static final byte DELIMITER = '&';
+    private static final byte KEY_VALUE_EQUALS = '=';
+    private static final byte VALUE_DOUBLE_QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+    private static final byte PERCENT = '%';
+    private static final byte PLUS = '+';
+    private static final byte SPACE = ' ';
+
+    /**
+     * The start and end (exclusive) offsets of the name, then the value, of each parameter, four per parameter.
+     */
+    private static final int SLOTS_PER_FIELD = 4;
+
+    private static final FormParameters EMPTY = new FormParameters(new byte[0], null, new int[0], 0);
+
+    private final byte[] body_;
+    private final Charset charset_;
+
+    private final int[] fields_;
+    private final int fieldCount_;
+
+    /**
+     * Materialized lazily, only if the parameters are needed as a multimap. Immutable, so racing to build it is
+     * harmless.
+     */
+    private ListMultimap<String, String> multimap_;
+
+    private FormParameters(
+            final byte[] body,
+            final Charset charset,
+            final int[] fields,
+            final int fieldCount) {
+        body_ = body;
+        charset_ = charset;
+        fields_ = fields;
+        fieldCount_ = fieldCount;
+    }
+
+    /**
+     * Parses the given form-encoded body. Names without a value (i.e., without an {@code =}) are skipped.
+     *
+     * @param body the buffered request body; never modified, given it may be shared with other mappers
+     * @param charset the charset of the request body
+     * @param maxFields the maximum number of parameters allowed in the body, or zero (or less) for no limit
+     * @param maxFieldLength the maximum length in bytes of any name or value in the body, or zero (or less) for
+     *     no limit
+     * @return the parsed parameters
+     * @throws RequestTooLargeException if the body exceeds the given limits
+     */
+    @Nonnull
+    public static FormParameters parse(
+            @Nonnull final byte[] body,
+            @Nonnull final Charset charset,
+            final int maxFields,
+            final int maxFieldLength) {
+        checkNotNull(body, "Body cannot be null.");
+        return parse(body, body.length, charset, maxFields, maxFieldLength);
+    }
+
+    /**
+     * Parses the form-encoded body in the first {@code length} bytes of the given array; e.g., a pooled buffer
+     * larger than the body. The array must not be modified for as long as the returned parameters are in use.
+     *
+     * @param body the buffered request body; never modified, given it may be shared with other mappers
+     * @param length the length of the body in bytes
+     * @param charset the charset of the request body
+     * @param maxFields the maximum number of parameters allowed in the body, or zero (or less) for no limit
+     * @param maxFieldLength the maximum length in bytes of any name or value in the body, or zero (or less) for
+     *     no limit
+     * @return the parsed parameters
+     * @throws RequestTooLargeException if the body exceeds the given limits
+     */
+    @Nonnull
+    public static FormParameters parse(
+            @Nonnull final byte[] body,
+            final int length,
+            @Nonnull final Charset charset,
+            final int maxFields,
+            final int maxFieldLength) {
+        checkNotNull(body, "Body cannot be null.");
+        checkNotNull(charset, "Charset cannot be null.");
+        checkPositionIndex(length, body.length, "Length");
+        if (length == 0) {
+            return EMPTY;
+        }
+        int[] fields = new int[SLOTS_PER_FIELD * 8];
+        int fieldCount = 0;
+        int pos = 0;
+        while (pos < length) {
+            // Find the name.
+            final int nameFrom = pos;
+            while (pos < length && body[pos] != KEY_VALUE_EQUALS && body[pos] != DELIMITER) {
+                pos++;
+            }
+            if (pos == length || body[pos] == DELIMITER) {
+                // A name without a value; skip it.
+                pos++;
+                continue;
+            }
+            int nameStart = nameFrom;
+            int nameEnd = pos;
+            // Trim the name like String.trim() would.
+            while (nameStart < nameEnd && (body[nameStart] & 0xFF) <= SPACE) {
+                nameStart++;
+            }
+            while (nameEnd > nameStart && (body[nameEnd - 1] & 0xFF) <= SPACE) {
+                nameEnd--;
+            }
+            // Skip over the '='.
+            pos++;
+            // Find the value; a delimiter within a double-quoted value doesn't end it.
+            int valueStart = pos;
+            boolean quoted = false;
+            boolean escaped = false;
+            while (pos < length) {
+                final byte b = body[pos];
+                if (b == VALUE_DOUBLE_QUOTE && !escaped) {
+                    quoted = !quoted;
+                }
+                if (!quoted && !escaped && b == DELIMITER) {
+                    break;
+                }
+                if (escaped) {
+                    escaped = false;
+                } else {
+                    escaped = quoted && b == ESCAPE;
+                }
+                pos++;
+            }
+            int valueEnd = pos;
+            // Trim leading and trailing white space.
+            while (valueStart < valueEnd && isWhitespace(body[valueStart])) {
+                valueStart++;
+            }
+            while (valueEnd > valueStart && isWhitespace(body[valueEnd - 1])) {
+                valueEnd--;
+            }
+            // Strip away quotes if necessary.
+            if ((valueEnd - valueStart) >= 2 && body[valueStart] == VALUE_DOUBLE_QUOTE
+                    && body[valueEnd - 1] == VALUE_DOUBLE_QUOTE) {
+                valueStart++;
+                valueEnd--;
+            }
+            // Skip over the '&', if any.
+            pos++;
+            if (maxFields > 0 && fieldCount >= maxFields) {
+                throw new RequestTooLargeException("Incoming form-encoded request body has too many fields: "
+                        + "more than " + maxFields + " maximum.");
+            }
+            if (maxFieldLength > 0 && Math.max(nameEnd - nameStart, valueEnd - valueStart) > maxFieldLength) {
+                throw new RequestTooLargeException("Incoming form-encoded request body has a field that is "
+                        + "too long: more than " + maxFieldLength + "-bytes maximum.");
+            }
+            final int slot = fieldCount * SLOTS_PER_FIELD;
+            if (slot == fields.length) {
+                fields = Arrays.copyOf(fields, fields.length * 2);
+            }
+            fields[slot] = nameStart;
+            fields[slot + 1] = nameEnd;
+            fields[slot + 2] = valueStart;
+            fields[slot + 3] = valueEnd;
+            fieldCount++;
+        }
+        return new FormParameters(body, charset, fields, fieldCount);
+    }
+
+    /**
+     * Returns the number of parameters in the body, counting each value of a repeated name.
+     */
+    public int size() {
+        return fieldCount_;
+    }
+
+    /**
+     * Returns the first value of the parameter by the given name.
+     *
+     * @param name the (decoded) name of the parameter
+     * @return the decoded value, or null if there's no such parameter
+     */
+    @Nullable
+    public String getFirst(
+            @Nonnull final String name) {
+        checkNotNull(name, "Name cannot be null.");
+        if (fieldCount_ == 0) {
+            return null;
+        }
+        final byte[] encodedName = name.getBytes(charset_);
+        for (int i = 0; i < fieldCount_; i++) {
+            final int slot = i * SLOTS_PER_FIELD;
+            if (nameEquals(fields_[slot], fields_[slot + 1], encodedName)) {
+                return decode(fields_[slot + 2], fields_[slot + 3]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all values of the parameter by the given name, in the order they appear in the body.
+     *
+     * @param name the (decoded) name of the parameter
+     * @return the decoded values, or an empty list if there's no such parameter
+     */
+    @Nonnull
+    public List<String> get(
+            @Nonnull final String name) {
+        checkNotNull(name, "Name cannot be null.");
+        if (fieldCount_ == 0) {
+            return ImmutableList.of();
+        }
+        final ImmutableList.Builder<String> values = ImmutableList.builder();
+        final byte[] encodedName = name.getBytes(charset_);
+        for (int i = 0; i < fieldCount_; i++) {
+            final int slot = i * SLOTS_PER_FIELD;
+            if (nameEquals(fields_[slot], fields_[slot + 1], encodedName)) {
+                values.add(decode(fields_[slot + 2], fields_[slot + 3]));
+            }
+        }
+        return values.build();
+    }
+
+    /**
+     * Returns all parameters as an immutable multimap, decoding every name and value in the body the first time
+     * it's called.
+     */
+    @Nonnull
+    public ListMultimap<String, String> asMultimap() {
+        ListMultimap<String, String> multimap = multimap_;
+        if (multimap == null) {
+            final ImmutableListMultimap.Builder<String, String> builder = ImmutableListMultimap.builder();
+            for (int i = 0; i < fieldCount_; i++) {
+                final int slot = i * SLOTS_PER_FIELD;
+                builder.put(decode(fields_[slot], fields_[slot + 1]), decode(fields_[slot + 2], fields_[slot + 3]));
+            }
+            multimap = builder.build();
+            multimap_ = multimap;
+        }
+        return multimap;
+    }
+
+    /**
+     * Compares the still-encoded name in the body between the given offsets against the given (charset encoded,
+     * but not URL-encoded) name, URL-decoding as it goes.
+     */
+    private boolean nameEquals(
+            final int start,
+            final int end,
+            final byte[] name) {
+        int j = 0;
+        int i = start;
+        while (i < end) {
+            if (j == name.length) {
+                return false;
+            }
+            final byte b = body_[i];
+            final byte decoded;
+            if (b == PERCENT) {
+                decoded = (byte) hexToByte(i, end);
+                i += 3;
+            } else {
+                decoded = (b == PLUS) ? SPACE : b;
+                i++;
+            }
+            if (decoded != name[j++]) {
+                return false;
+            }
+        }
+        return j == name.length;
+    }
+
+    private String decode(
+            final int start,
+            final int end) {
+        int i = start;
+        // Fast path: nothing to decode, create the string straight from the body.
+        while (i < end && body_[i] != PERCENT && body_[i] != PLUS) {
+            i++;
+        }
+        if (i == end) {
+            return new String(body_, start, end - start, charset_);
+        }
+        // Percent-decoding never grows the input, so a buffer the size of the encoded input is always enough.
+        final byte[] decoded = new byte[end - start];
+        int length = i - start;
+        System.arraycopy(body_, start, decoded, 0, length);
+        while (i < end) {
+            final byte b = body_[i];
+            if (b == PERCENT) {
+                decoded[length++] = (byte) hexToByte(i, end);
+                i += 3;
+            } else {
+                decoded[length++] = (b == PLUS) ? SPACE : b;
+                i++;
+            }
+        }
+        return new String(decoded, 0, length, charset_);
+    }
+
+    /**
+     * Decodes the two hex digits following the percent sign at the given offset.
+     */
+    private int hexToByte(
+            final int percent,
+            final int end) {
+        if (percent + 2 >= end) {
+            throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+        }
+        final int hi = Character.digit(body_[percent + 1], 16);
+        final int lo = Character.digit(body_[percent + 2], 16);
+        if (hi < 0 || lo < 0) {
+            throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+        }
+        return (hi << 4) | lo;
+    }
+
+    private static boolean isWhitespace(
+            final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+}